@@ -0,0 +1,34 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const host = __ENV.HOST || 'http://localhost:8080';
+const jsonHeaders = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    pos_clients: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 5000),
+      duration: __ENV.DURATION || '1m',
+    },
+  },
+};
+
+export function setup() {
+  const table = http.post(`${host}/api/tables`, JSON.stringify({ numberOfGuests: 0, empty: false }), jsonHeaders);
+  return { orderTableId: table.json('id') };
+}
+
+export default function (data) {
+  const menus = http.get(`${host}/api/menus`);
+  check(menus, { 'menus listed': (response) => response.status === 200 });
+
+  const order = http.post(`${host}/api/orders`, JSON.stringify({
+    orderTableId: data.orderTableId,
+    orderLineItems: [{ menuId: 1, quantity: 1 }],
+  }), jsonHeaders);
+  check(order, { 'order created': (response) => response.status === 201 });
+
+  const tables = http.get(`${host}/api/tables`);
+  check(tables, { 'tables listed': (response) => response.status === 200 });
+}
@@ -0,0 +1,152 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.ProductService;
+import kitchenpos.application.TableGroupService;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.TableGroup;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class BenchmarkFixtures {
+    private final ApplicationContext context;
+
+    public BenchmarkFixtures(final ApplicationContext context) {
+        this.context = context;
+    }
+
+    public Menu menuRequest(final int productCount) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("벤치마크메뉴");
+        final MenuGroup savedMenuGroup = context.getBean(MenuGroupService.class).create(menuGroup);
+
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            final Product product = new Product();
+            product.setName("상품" + i);
+            product.setPrice(BigDecimal.valueOf(1000));
+            final Product savedProduct = context.getBean(ProductService.class).create(product);
+
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(savedProduct.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+
+        final Menu menu = new Menu();
+        menu.setName("벤치마크메뉴");
+        menu.setPrice(BigDecimal.valueOf(1000L * productCount));
+        menu.setMenuGroupId(savedMenuGroup.getId());
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    public Menu copyMenuRequest(final Menu menuRequest) {
+        final List<MenuProduct> menuProducts = menuRequest.getMenuProducts().stream()
+                .map(menuProduct -> {
+                    final MenuProduct copied = new MenuProduct();
+                    copied.setProductId(menuProduct.getProductId());
+                    copied.setQuantity(menuProduct.getQuantity());
+                    return copied;
+                })
+                .collect(Collectors.toList());
+
+        final Menu menu = new Menu();
+        menu.setName(menuRequest.getName());
+        menu.setPrice(menuRequest.getPrice());
+        menu.setMenuGroupId(menuRequest.getMenuGroupId());
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    public Menu createMenu(final int productCount) {
+        return context.getBean(MenuService.class).create(menuRequest(productCount));
+    }
+
+    public List<Menu> createMenus(final int menuCount, final int productCount) {
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < menuCount; i++) {
+            menus.add(createMenu(productCount));
+        }
+        return menus;
+    }
+
+    public OrderTable createTable(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        orderTable.setNumberOfGuests(0);
+        return context.getBean(TableService.class).create(orderTable);
+    }
+
+    public List<OrderTable> createTables(final int tableCount, final boolean empty) {
+        final List<OrderTable> orderTables = new ArrayList<>();
+        for (int i = 0; i < tableCount; i++) {
+            orderTables.add(createTable(empty));
+        }
+        return orderTables;
+    }
+
+    public Order orderRequest(final Long orderTableId, final List<Menu> menus) {
+        final List<OrderLineItem> orderLineItems = menus.stream()
+                .map(menu -> {
+                    final OrderLineItem orderLineItem = new OrderLineItem();
+                    orderLineItem.setMenuId(menu.getId());
+                    orderLineItem.setQuantity(1L);
+                    return orderLineItem;
+                })
+                .collect(Collectors.toList());
+
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(orderLineItems);
+        return order;
+    }
+
+    public Order createOrder(final Long orderTableId, final List<Menu> menus) {
+        return context.getBean(OrderService.class).create(orderRequest(orderTableId, menus));
+    }
+
+    public Order completeOrder(final Order order) {
+        final Order statusChange = new Order();
+        statusChange.setOrderStatus(OrderStatus.COMPLETION.name());
+        return context.getBean(OrderService.class).changeOrderStatus(order.getId(), statusChange);
+    }
+
+    public TableGroup tableGroupRequest(final List<OrderTable> orderTables) {
+        final List<OrderTable> orderTableRequests = orderTables.stream()
+                .map(orderTable -> {
+                    final OrderTable orderTableRequest = new OrderTable();
+                    orderTableRequest.setId(orderTable.getId());
+                    return orderTableRequest;
+                })
+                .collect(Collectors.toList());
+
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(orderTableRequests);
+        return tableGroup;
+    }
+
+    public OrderTable changeEmptyRequest(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        return orderTable;
+    }
+
+    public TableGroup createTableGroup(final List<OrderTable> orderTables) {
+        return context.getBean(TableGroupService.class).create(tableGroupRequest(orderTables));
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DaoInsertBenchmark {
+    private ConfigurableApplicationContext context;
+    private OrderTableDao orderTableDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        orderTableDao = context.getBean(OrderTableDao.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderTable save() {
+        return orderTableDao.save(newOrderTable());
+    }
+
+    @Benchmark
+    public OrderTable saveAndReselect() {
+        final OrderTable savedOrderTable = orderTableDao.save(newOrderTable());
+        return orderTableDao.findById(savedOrderTable.getId())
+                .orElseThrow();
+    }
+
+    private OrderTable newOrderTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(true);
+        orderTable.setNumberOfGuests(0);
+        return orderTable;
+    }
+}
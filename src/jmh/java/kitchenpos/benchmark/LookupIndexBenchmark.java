@@ -0,0 +1,146 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LookupIndexBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final long SEED_ID_OFFSET = 1000;
+    private static final List<String> ACTIVE_ORDER_STATUSES = Arrays.asList(
+            OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+    private static final List<String> LOOKUP_INDEXES = Arrays.asList(
+            "ix_orders_order_table_id_order_status",
+            "ix_order_line_item_order_id",
+            "ix_menu_product_menu_id",
+            "ix_order_table_table_group_id"
+    );
+
+    @Param({"10000", "100000"})
+    private int orderCount;
+
+    @Param({"true", "false"})
+    private boolean lookupIndexes;
+
+    private ConfigurableApplicationContext context;
+    private OrderDao orderDao;
+    private OrderLineItemDao orderLineItemDao;
+    private MenuProductDao menuProductDao;
+    private OrderTableDao orderTableDao;
+    private int tableCount;
+    private int tableGroupCount;
+    private int menuCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("spring.cache.type=none");
+        orderDao = context.getBean(OrderDao.class);
+        orderLineItemDao = context.getBean(OrderLineItemDao.class);
+        menuProductDao = context.getBean(MenuProductDao.class);
+        orderTableDao = context.getBean(OrderTableDao.class);
+
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!lookupIndexes) {
+            LOOKUP_INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+        }
+        tableCount = orderCount / 10;
+        tableGroupCount = tableCount / 10;
+        menuCount = orderCount / 10;
+        seed(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean existsByOrderTableIdAndOrderStatusIn() {
+        return orderDao.existsByOrderTableIdAndOrderStatusIn(randomId(tableCount) + SEED_ID_OFFSET, ACTIVE_ORDER_STATUSES);
+    }
+
+    @Benchmark
+    public List<OrderLineItem> findAllByOrderId() {
+        return orderLineItemDao.findAllByOrderId(randomId(orderCount));
+    }
+
+    @Benchmark
+    public List<MenuProduct> findAllByMenuId() {
+        return menuProductDao.findAllByMenuId(randomId(menuCount) + SEED_ID_OFFSET);
+    }
+
+    @Benchmark
+    public List<OrderTable> findAllByTableGroupId() {
+        return orderTableDao.findAllByTableGroupId(randomId(tableGroupCount));
+    }
+
+    private void seed(final JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        final LocalDateTime now = LocalDateTime.now();
+        batchInsert(jdbcTemplate, "INSERT INTO table_group (id, created_date) VALUES (?, ?)", tableGroupCount,
+                id -> new Object[]{id, Timestamp.valueOf(now)});
+        batchInsert(jdbcTemplate, "INSERT INTO order_table (id, table_group_id, number_of_guests, empty) VALUES (?, ?, 0, false)",
+                tableCount, id -> new Object[]{id + SEED_ID_OFFSET, id % tableGroupCount + 1});
+        batchInsert(jdbcTemplate, "INSERT INTO menu (id, name, price, menu_group_id) VALUES (?, 'menu', 1000, 1)",
+                menuCount, id -> new Object[]{id + SEED_ID_OFFSET});
+        batchInsert(jdbcTemplate, "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, 1, 1)",
+                menuCount * 10, id -> new Object[]{id % menuCount + 1 + SEED_ID_OFFSET});
+        batchInsert(jdbcTemplate, "INSERT INTO orders (id, order_table_id, order_status, ordered_time) VALUES (?, ?, ?, ?)",
+                orderCount, id -> new Object[]{id, id % tableCount + 1 + SEED_ID_OFFSET, OrderStatus.COMPLETION.name(), Timestamp.valueOf(now)});
+        batchInsert(jdbcTemplate, "INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (?, 1, 1)",
+                orderCount * 2, id -> new Object[]{id % orderCount + 1});
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void batchInsert(final JdbcTemplate jdbcTemplate, final String sql, final int count, final RowFactory rowFactory) {
+        final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= count; id++) {
+            rows.add(rowFactory.create(id));
+            if (rows.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private long randomId(final int count) {
+        return ThreadLocalRandom.current().nextLong(count) + 1;
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] create(long id);
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.Menu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MenuServiceBenchmark {
+
+    @Param({"10", "1000"})
+    private int menuCount;
+
+    @Param({"1", "5"})
+    private int menuProductCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkFixtures fixtures;
+    private MenuService menuService;
+    private Menu menuRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        fixtures = new BenchmarkFixtures(context);
+        menuService = context.getBean(MenuService.class);
+        fixtures.createMenus(menuCount, menuProductCount);
+        menuRequest = fixtures.menuRequest(menuProductCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Menu create() {
+        return menuService.create(fixtures.copyMenuRequest(menuRequest));
+    }
+
+    @Benchmark
+    public List<Menu> list() {
+        return menuService.list();
+    }
+}
@@ -0,0 +1,65 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int orderCount;
+
+    @Param({"1", "12"})
+    private int orderLineItemCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkFixtures fixtures;
+    private OrderService orderService;
+    private List<Menu> menus;
+    private OrderTable orderTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        fixtures = new BenchmarkFixtures(context);
+        orderService = context.getBean(OrderService.class);
+        menus = fixtures.createMenus(orderLineItemCount, 1);
+        orderTable = fixtures.createTable(false);
+        for (int i = 0; i < orderCount; i++) {
+            fixtures.createOrder(orderTable.getId(), menus);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        return orderService.create(fixtures.orderRequest(orderTable.getId(), menus));
+    }
+
+    @Benchmark
+    public List<Order> list() {
+        return orderService.list();
+    }
+}
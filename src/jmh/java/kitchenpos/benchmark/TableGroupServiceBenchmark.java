@@ -0,0 +1,96 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.TableGroupService;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(batchSize = TableGroupServiceBenchmark.BATCH_SIZE)
+@Measurement(batchSize = TableGroupServiceBenchmark.BATCH_SIZE)
+public class TableGroupServiceBenchmark {
+    static final int BATCH_SIZE = 100;
+
+    @Param({"2", "30"})
+    private int tableCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkFixtures fixtures;
+    private TableGroupService tableGroupService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        fixtures = new BenchmarkFixtures(context);
+        tableGroupService = context.getBean(TableGroupService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TableGroup create(final EmptyTables emptyTables) {
+        return tableGroupService.create(fixtures.tableGroupRequest(emptyTables.next()));
+    }
+
+    @Benchmark
+    public void ungroup(final TableGroups tableGroups) {
+        tableGroupService.ungroup(tableGroups.next().getId());
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptyTables {
+        private final Queue<List<OrderTable>> pool = new ArrayDeque<>();
+
+        @Setup(Level.Iteration)
+        public void fill(final TableGroupServiceBenchmark benchmark) {
+            pool.clear();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                pool.add(benchmark.fixtures.createTables(benchmark.tableCount, true));
+            }
+        }
+
+        private List<OrderTable> next() {
+            return Objects.requireNonNull(pool.poll(), "empty table pool is exhausted");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TableGroups {
+        private final Queue<TableGroup> pool = new ArrayDeque<>();
+
+        @Setup(Level.Iteration)
+        public void fill(final TableGroupServiceBenchmark benchmark) {
+            pool.clear();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                pool.add(benchmark.fixtures.createTableGroup(benchmark.fixtures.createTables(benchmark.tableCount, true)));
+            }
+        }
+
+        private TableGroup next() {
+            return Objects.requireNonNull(pool.poll(), "table group pool is exhausted");
+        }
+    }
+}
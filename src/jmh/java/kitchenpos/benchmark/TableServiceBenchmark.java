@@ -0,0 +1,59 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TableServiceBenchmark {
+
+    @Param({"0", "10000"})
+    private int completedOrderCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkFixtures fixtures;
+    private TableService tableService;
+    private OrderTable orderTable;
+    private boolean empty;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        fixtures = new BenchmarkFixtures(context);
+        tableService = context.getBean(TableService.class);
+        orderTable = fixtures.createTable(false);
+        final List<Menu> menus = fixtures.createMenus(1, 1);
+        for (int i = 0; i < completedOrderCount; i++) {
+            final Order order = fixtures.createOrder(orderTable.getId(), menus);
+            fixtures.completeOrder(order);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderTable changeEmpty() {
+        empty = !empty;
+        return tableService.changeEmpty(orderTable.getId(), fixtures.changeEmptyRequest(empty));
+    }
+}
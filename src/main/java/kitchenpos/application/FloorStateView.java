@@ -0,0 +1,120 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.FloorState;
+import kitchenpos.application.dto.FloorTable;
+import kitchenpos.dao.ActiveOrderIndex;
+import kitchenpos.dao.ActiveOrderTables;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.RebuildableSnapshot;
+import kitchenpos.domain.OrderTable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Component
+public class FloorStateView {
+    private final OrderTableDao orderTableDao;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final RebuildableSnapshot<Map<Long, TableRow>, Tables> tables;
+    private volatile Composed composed;
+
+    public FloorStateView(final OrderTableDao orderTableDao, final ActiveOrderIndex activeOrderIndex) {
+        this.orderTableDao = orderTableDao;
+        this.activeOrderIndex = activeOrderIndex;
+        this.tables = new RebuildableSnapshot<>(this::load, Tables::new);
+    }
+
+    public FloorState current() {
+        final Tables currentTables = tables.current();
+        final Composed last = composed;
+        if (Objects.nonNull(last) && last.tables == currentTables && last.activeOrderVersion >= 0
+                && last.activeOrderVersion == activeOrderIndex.version()) {
+            return last.floorState;
+        }
+
+        final ActiveOrderTables activeOrderTables = activeOrderIndex.activeOrderTables();
+        final FloorState floorState = currentTables.toFloorState(activeOrderTables);
+        composed = new Composed(currentTables, activeOrderTables.getVersion(), floorState);
+        return floorState;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderTablesChanged(final OrderTablesChangedEvent event) {
+        final List<TableRow> rows = event.getOrderTables().stream()
+                .map(TableRow::new)
+                .collect(Collectors.toList());
+        tables.apply(current -> rows.forEach(row -> current.put(row.id, row)));
+    }
+
+    public void invalidate() {
+        tables.invalidate();
+        composed = null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        tables.rebuild();
+    }
+
+    private Map<Long, TableRow> load() {
+        final Map<Long, TableRow> loaded = new TreeMap<>();
+        for (final OrderTable orderTable : orderTableDao.findAll()) {
+            loaded.put(orderTable.getId(), new TableRow(orderTable));
+        }
+        return loaded;
+    }
+
+    private static class TableRow {
+        private final Long id;
+        private final Long tableGroupId;
+        private final int numberOfGuests;
+        private final boolean empty;
+
+        private TableRow(final OrderTable orderTable) {
+            this.id = orderTable.getId();
+            this.tableGroupId = orderTable.getTableGroupId();
+            this.numberOfGuests = orderTable.getNumberOfGuests();
+            this.empty = orderTable.isEmpty();
+        }
+    }
+
+    private static class Tables {
+        private final List<TableRow> rows;
+        private final long version;
+
+        private Tables(final Map<Long, TableRow> rows, final long version) {
+            this.rows = List.copyOf(rows.values());
+            this.version = version;
+        }
+
+        private FloorState toFloorState(final ActiveOrderTables activeOrderTables) {
+            final List<FloorTable> floorTables = new ArrayList<>(rows.size());
+            for (final TableRow row : rows) {
+                floorTables.add(new FloorTable(
+                        row.id, row.tableGroupId, row.numberOfGuests, row.empty, activeOrderTables.contains(row.id)
+                ));
+            }
+            return new FloorState(version + activeOrderTables.getVersion(), List.copyOf(floorTables));
+        }
+    }
+
+    private static class Composed {
+        private final Tables tables;
+        private final long activeOrderVersion;
+        private final FloorState floorState;
+
+        private Composed(final Tables tables, final long activeOrderVersion, final FloorState floorState) {
+            this.tables = tables;
+            this.activeOrderVersion = activeOrderVersion;
+            this.floorState = floorState;
+        }
+    }
+}
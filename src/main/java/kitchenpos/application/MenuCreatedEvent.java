@@ -0,0 +1,13 @@
+package kitchenpos.application;
+
+public class MenuCreatedEvent extends CatalogChangedEvent {
+    private final Long menuId;
+
+    public MenuCreatedEvent(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+}
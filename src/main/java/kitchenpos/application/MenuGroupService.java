@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.dao.MenuGroupDao;
 import kitchenpos.domain.MenuGroup;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,14 +11,19 @@ import java.util.List;
 @Service
 public class MenuGroupService {
     private final MenuGroupDao menuGroupDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuGroupService(final MenuGroupDao menuGroupDao) {
+    public MenuGroupService(final MenuGroupDao menuGroupDao, final ApplicationEventPublisher eventPublisher) {
         this.menuGroupDao = menuGroupDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public MenuGroup create(final MenuGroup menuGroup) {
-        return menuGroupDao.save(menuGroup);
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+
+        return savedMenuGroup;
     }
 
     public List<MenuGroup> list() {
@@ -0,0 +1,109 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.RebuildableSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class MenuIdIndex {
+    private static final Logger log = LoggerFactory.getLogger(MenuIdIndex.class);
+
+    private final MenuDao menuDao;
+    private final long maxAgeNanos;
+    private final RebuildableSnapshot<MenuIds, MenuIds> snapshot =
+            new RebuildableSnapshot<>(this::load, (menuIds, version) -> menuIds.copy());
+
+    public MenuIdIndex(
+            final MenuDao menuDao,
+            @Value("${kitchenpos.menu-id-index.max-age:10m}") final Duration maxAge
+    ) {
+        this.menuDao = menuDao;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public long countByIdIn(final List<Long> ids) {
+        final MenuIds current = currentSnapshot();
+        if (Objects.isNull(current)) {
+            return menuDao.countByIdIn(ids);
+        }
+        final BitSet foundIds = new BitSet();
+        for (final Long id : ids) {
+            if (!isIndexable(id) || !current.ids.get(id.intValue())) {
+                return menuDao.countByIdIn(ids);
+            }
+            foundIds.set(id.intValue());
+        }
+        return foundIds.cardinality();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void add(final MenuCreatedEvent event) {
+        final Long menuId = event.getMenuId();
+        if (isIndexable(menuId)) {
+            snapshot.apply(menuIds -> menuIds.ids.set(menuId.intValue()));
+        }
+    }
+
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    private MenuIds currentSnapshot() {
+        final MenuIds current = snapshot.get();
+        if (Objects.nonNull(current) && !isStale(current)) {
+            return current;
+        }
+        try {
+            snapshot.rebuild();
+        } catch (final RuntimeException e) {
+            log.warn("failed to rebuild menu id index", e);
+        }
+        final MenuIds rebuilt = snapshot.get();
+        if (Objects.nonNull(rebuilt) && !isStale(rebuilt)) {
+            return rebuilt;
+        }
+        return null;
+    }
+
+    private MenuIds load() {
+        final long loadedAt = System.nanoTime();
+        final BitSet ids = new BitSet();
+        for (final Long id : menuDao.findAllIds()) {
+            if (isIndexable(id)) {
+                ids.set(id.intValue());
+            }
+        }
+        return new MenuIds(ids, loadedAt);
+    }
+
+    private boolean isStale(final MenuIds menuIds) {
+        return System.nanoTime() - menuIds.loadedAt > maxAgeNanos;
+    }
+
+    private boolean isIndexable(final Long id) {
+        return Objects.nonNull(id) && id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private static class MenuIds {
+        private final BitSet ids;
+        private final long loadedAt;
+
+        private MenuIds(final BitSet ids, final long loadedAt) {
+            this.ids = ids;
+            this.loadedAt = loadedAt;
+        }
+
+        private MenuIds copy() {
+            return new MenuIds((BitSet) ids.clone(), loadedAt);
+        }
+    }
+}
@@ -7,13 +7,16 @@ import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
@@ -21,17 +24,20 @@ public class MenuService {
     private final MenuGroupDao menuGroupDao;
     private final MenuProductDao menuProductDao;
     private final ProductDao productDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(
             final MenuDao menuDao,
             final MenuGroupDao menuGroupDao,
             final MenuProductDao menuProductDao,
-            final ProductDao productDao
+            final ProductDao productDao,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.menuDao = menuDao;
         this.menuGroupDao = menuGroupDao;
         this.menuProductDao = menuProductDao;
         this.productDao = productDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -68,6 +74,7 @@ public class MenuService {
             savedMenuProducts.add(menuProductDao.save(menuProduct));
         }
         savedMenu.setMenuProducts(savedMenuProducts);
+        eventPublisher.publishEvent(new MenuCreatedEvent(menuId));
 
         return savedMenu;
     }
@@ -75,8 +82,14 @@ public class MenuService {
     public List<Menu> list() {
         final List<Menu> menus = menuDao.findAll();
 
+        final List<Long> menuIds = menus.stream()
+                .map(Menu::getId)
+                .collect(Collectors.toList());
+        final Map<Long, List<MenuProduct>> menuProducts = menuProductDao.findAllByMenuIdIn(menuIds).stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+
         for (final Menu menu : menus) {
-            menu.setMenuProducts(menuProductDao.findAllByMenuId(menu.getId()));
+            menu.setMenuProducts(menuProducts.getOrDefault(menu.getId(), new ArrayList<>()));
         }
 
         return menus;
@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveScheduler.class);
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderArchiveScheduler(final OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.archive.interval-millis:600000}")
+    public void archive() {
+        final int archived = orderArchiveService.archive();
+        if (archived > 0) {
+            log.info("archived {} completed orders", archived);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderArchiveDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderArchiveService {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final OrderArchiveDao orderArchiveDao;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int chunkSize;
+
+    public OrderArchiveService(
+            final OrderArchiveDao orderArchiveDao,
+            final PlatformTransactionManager transactionManager,
+            @Value("${kitchenpos.order.archive.age:7d}") final Duration age,
+            @Value("${kitchenpos.order.archive.chunk-size:500}") final int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderArchiveDao = orderArchiveDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.age = age;
+        this.chunkSize = chunkSize;
+    }
+
+    public int archive() {
+        return archiveOrderedBefore(LocalDateTime.now().minus(age));
+    }
+
+    public int archiveOrderedBefore(final LocalDateTime orderedBefore) {
+        int archived = 0;
+        while (true) {
+            final Integer archivedInChunk = transactionTemplate.execute(status -> {
+                final List<Long> orderIds = orderArchiveDao.findArchivableOrderIds(orderedBefore, chunkSize);
+                return orderArchiveDao.archive(orderIds, LocalDateTime.now());
+            });
+            archived += archivedInChunk;
+            if (archivedInChunk < chunkSize) {
+                return archived;
+            }
+        }
+    }
+
+    public List<Order> listHistory(final Long afterId, final int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Order> orders = orderArchiveDao.findAllByIdGreaterThan(Objects.requireNonNullElse(afterId, 0L), limit);
+        final List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        final Map<Long, List<OrderLineItem>> orderLineItems = orderArchiveDao.findAllOrderLineItemsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : orders) {
+            order.setOrderLineItems(orderLineItems.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+        return orders;
+    }
+}
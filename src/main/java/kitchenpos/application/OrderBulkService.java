@@ -0,0 +1,161 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.OrderBulkResult;
+import kitchenpos.application.dto.OrderBulkResult.RejectReason;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderBulkService {
+    private final MenuIdIndex menuIdIndex;
+    private final OrderDao orderDao;
+    private final OrderLineItemDao orderLineItemDao;
+    private final OrderTableDao orderTableDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public OrderBulkService(
+            final MenuIdIndex menuIdIndex,
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final OrderTableDao orderTableDao,
+            final PlatformTransactionManager transactionManager,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${kitchenpos.order.bulk.chunk-size:500}") final int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.menuIdIndex = menuIdIndex;
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.orderTableDao = orderTableDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<OrderBulkResult> create(final Iterator<Order> orders) {
+        final List<OrderBulkResult> results = new ArrayList<>();
+        create(orders, results::addAll);
+        return results;
+    }
+
+    public void create(final Iterator<Order> orders, final Consumer<List<OrderBulkResult>> chunkCreated) {
+        final List<Order> chunk = new ArrayList<>(chunkSize);
+        int firstIndex = 0;
+        while (orders.hasNext()) {
+            chunk.add(orders.next());
+            if (chunk.size() == chunkSize) {
+                chunkCreated.accept(createChunk(chunk, firstIndex));
+                firstIndex += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkCreated.accept(createChunk(chunk, firstIndex));
+        }
+    }
+
+    private List<OrderBulkResult> createChunk(final List<Order> orders, final int firstIndex) {
+        return transactionTemplate.execute(status -> {
+            final Map<Long, OrderTable> orderTables = findOrderTables(orders);
+            final LocalDateTime orderedTime = LocalDateTime.now();
+
+            final RejectReason[] rejectReasons = new RejectReason[orders.size()];
+            final List<Order> validOrders = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                final Order order = orders.get(i);
+                rejectReasons[i] = rejectReasonOf(order, orderTables);
+                if (Objects.isNull(rejectReasons[i])) {
+                    order.setId(null);
+                    order.setOrderStatus(OrderStatus.COOKING.name());
+                    order.setOrderedTime(orderedTime);
+                    validOrders.add(order);
+                }
+            }
+            orderDao.saveAll(validOrders);
+
+            final List<OrderLineItem> orderLineItems = new ArrayList<>();
+            for (final Order order : validOrders) {
+                for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                    orderLineItem.setOrderId(order.getId());
+                    orderLineItems.add(orderLineItem);
+                }
+            }
+            orderLineItemDao.saveAll(orderLineItems);
+            for (final Order order : validOrders) {
+                eventPublisher.publishEvent(OrderChangedEvent.created(order));
+            }
+
+            final List<OrderBulkResult> results = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                if (Objects.nonNull(rejectReasons[i])) {
+                    results.add(OrderBulkResult.rejected(firstIndex + i, rejectReasons[i]));
+                    continue;
+                }
+                results.add(OrderBulkResult.created(firstIndex + i, orders.get(i).getId()));
+            }
+            return results;
+        });
+    }
+
+    private Map<Long, OrderTable> findOrderTables(final List<Order> orders) {
+        final List<Long> orderTableIds = orders.stream()
+                .map(Order::getOrderTableId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableDao.findAllByIdIn(orderTableIds).stream()
+                .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private RejectReason rejectReasonOf(final Order order, final Map<Long, OrderTable> orderTables) {
+        final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
+        if (CollectionUtils.isEmpty(orderLineItems)) {
+            return RejectReason.NO_ORDER_LINE_ITEMS;
+        }
+
+        final List<Long> menuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .collect(Collectors.toList());
+        if (orderLineItems.size() != menuIdIndex.countByIdIn(menuIds)) {
+            return RejectReason.UNKNOWN_MENU;
+        }
+
+        final OrderTable orderTable = orderTables.get(order.getOrderTableId());
+        if (Objects.isNull(orderTable)) {
+            return RejectReason.UNKNOWN_ORDER_TABLE;
+        }
+        if (orderTable.isEmpty()) {
+            return RejectReason.EMPTY_ORDER_TABLE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.time.LocalDateTime;
+
+public class OrderChangedEvent {
+    private final Type type;
+    private final Long orderId;
+    private final Long orderTableId;
+    private final String orderStatus;
+    private final LocalDateTime changedTime;
+
+    private OrderChangedEvent(
+            final Type type,
+            final Long orderId,
+            final Long orderTableId,
+            final String orderStatus,
+            final LocalDateTime changedTime
+    ) {
+        this.type = type;
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+        this.changedTime = changedTime;
+    }
+
+    public static OrderChangedEvent created(final Order order) {
+        return new OrderChangedEvent(
+                Type.CREATED, order.getId(), order.getOrderTableId(), order.getOrderStatus(), order.getOrderedTime()
+        );
+    }
+
+    public static OrderChangedEvent statusChanged(
+            final Long orderId,
+            final Long orderTableId,
+            final String orderStatus,
+            final LocalDateTime changedTime
+    ) {
+        return new OrderChangedEvent(Type.STATUS_CHANGED, orderId, orderTableId, orderStatus, changedTime);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getChangedTime() {
+        return changedTime;
+    }
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+}
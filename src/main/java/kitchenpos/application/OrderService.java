@@ -1,6 +1,7 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.MenuDao;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.application.dto.OrderStatusSummary;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
 import kitchenpos.dao.OrderTableDao;
@@ -8,33 +9,55 @@ import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
-    private final MenuDao menuDao;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final MenuIdIndex menuIdIndex;
     private final OrderDao orderDao;
     private final OrderLineItemDao orderLineItemDao;
     private final OrderTableDao orderTableDao;
+    private final OrderStatusWriteBehindQueue orderStatusWriteBehindQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxStatusChangeRetries;
 
     public OrderService(
-            final MenuDao menuDao,
+            final MenuIdIndex menuIdIndex,
             final OrderDao orderDao,
             final OrderLineItemDao orderLineItemDao,
-            final OrderTableDao orderTableDao
+            final OrderTableDao orderTableDao,
+            final ObjectProvider<OrderStatusWriteBehindQueue> orderStatusWriteBehindQueue,
+            final PlatformTransactionManager transactionManager,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${kitchenpos.order.status-change.max-retries:3}") final int maxStatusChangeRetries
     ) {
-        this.menuDao = menuDao;
+        this.menuIdIndex = menuIdIndex;
         this.orderDao = orderDao;
         this.orderLineItemDao = orderLineItemDao;
         this.orderTableDao = orderTableDao;
+        this.orderStatusWriteBehindQueue = orderStatusWriteBehindQueue.getIfAvailable();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.maxStatusChangeRetries = maxStatusChangeRetries;
     }
 
     @Transactional
@@ -49,7 +72,7 @@ public class OrderService {
                 .map(OrderLineItem::getMenuId)
                 .collect(Collectors.toList());
 
-        if (orderLineItems.size() != menuDao.countByIdIn(menuIds)) {
+        if (orderLineItems.size() != menuIdIndex.countByIdIn(menuIds)) {
             throw new IllegalArgumentException();
         }
 
@@ -69,28 +92,74 @@ public class OrderService {
         final Order savedOrder = orderDao.save(order);
 
         final Long orderId = savedOrder.getId();
-        final List<OrderLineItem> savedOrderLineItems = new ArrayList<>();
         for (final OrderLineItem orderLineItem : orderLineItems) {
             orderLineItem.setOrderId(orderId);
-            savedOrderLineItems.add(orderLineItemDao.save(orderLineItem));
         }
-        savedOrder.setOrderLineItems(savedOrderLineItems);
+        savedOrder.setOrderLineItems(orderLineItemDao.saveAll(orderLineItems));
+
+        eventPublisher.publishEvent(OrderChangedEvent.created(savedOrder));
 
         return savedOrder;
     }
 
     public List<Order> list() {
         final List<Order> orders = orderDao.findAll();
+        fillOrderLineItems(orders);
+        return orders;
+    }
 
-        for (final Order order : orders) {
-            order.setOrderLineItems(orderLineItemDao.findAllByOrderId(order.getId()));
+    public List<Order> list(final Long afterId, final int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
         }
 
+        final List<Order> orders = orderDao.findAllByIdGreaterThan(Objects.requireNonNullElse(afterId, 0L), limit);
+        fillOrderLineItems(orders);
         return orders;
     }
 
-    @Transactional
+    public ChangeSet<Order> listChangedSince(final long version) {
+        final ChangeSet<Order> changeSet = orderDao.findAllByChangeVersionGreaterThan(version, MAX_PAGE_SIZE);
+        fillOrderLineItems(changeSet.getItems());
+        return changeSet;
+    }
+
+    public void streamAll(final Consumer<Order> consumer) {
+        orderDao.streamAllWithOrderLineItems(consumer);
+    }
+
     public Order changeOrderStatus(final Long orderId, final Order order) {
+        if (Objects.nonNull(orderStatusWriteBehindQueue)) {
+            return orderStatusWriteBehindQueue.changeOrderStatus(orderId, order);
+        }
+        for (int attempt = 0; attempt <= maxStatusChangeRetries; attempt++) {
+            final Order changedOrder = transactionTemplate.execute(status -> changeOrderStatusNow(orderId, order));
+            if (Objects.nonNull(changedOrder)) {
+                return changedOrder;
+            }
+        }
+        throw new OptimisticLockingFailureException("order " + orderId + " was changed concurrently");
+    }
+
+    public OrderStatusSummary changeOrderStatusSummary(final Long orderId, final Order order) {
+        if (Objects.nonNull(orderStatusWriteBehindQueue)) {
+            final Order changedOrder = orderStatusWriteBehindQueue.changeOrderStatus(orderId, order);
+            return new OrderStatusSummary(orderId, changedOrder.getOrderStatus(), LocalDateTime.now());
+        }
+
+        final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
+        return transactionTemplate.execute(status -> {
+            final Long orderTableId = orderDao.updateOrderStatusIfNotCompleted(orderId, orderStatus.name())
+                    .orElseThrow(IllegalArgumentException::new);
+            final LocalDateTime changedTime = LocalDateTime.now();
+            eventPublisher.publishEvent(OrderChangedEvent.statusChanged(
+                    orderId, orderTableId, orderStatus.name(), changedTime
+            ));
+            return new OrderStatusSummary(orderId, orderStatus.name(), changedTime);
+        });
+    }
+
+    private Order changeOrderStatusNow(final Long orderId, final Order order) {
         final Order savedOrder = orderDao.findById(orderId)
                 .orElseThrow(IllegalArgumentException::new);
 
@@ -99,12 +168,29 @@ public class OrderService {
         }
 
         final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
+        if (!orderDao.compareAndSetOrderStatus(orderId, savedOrder.getVersion(), orderStatus.name())) {
+            return null;
+        }
         savedOrder.setOrderStatus(orderStatus.name());
-
-        orderDao.save(savedOrder);
+        savedOrder.setVersion(savedOrder.getVersion() + 1);
+        eventPublisher.publishEvent(OrderChangedEvent.statusChanged(
+                orderId, savedOrder.getOrderTableId(), orderStatus.name(), LocalDateTime.now()
+        ));
 
         savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
 
         return savedOrder;
     }
+
+    private void fillOrderLineItems(final List<Order> orders) {
+        final List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        final Map<Long, List<OrderLineItem>> orderLineItems = orderLineItemDao.findAllByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : orders) {
+            order.setOrderLineItems(orderLineItems.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order.status-write-behind.enabled", havingValue = "true")
+public class OrderStatusWriteBehindQueue {
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusWriteBehindQueue.class);
+
+    private final OrderDao orderDao;
+    private final OrderLineItemDao orderLineItemDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Durability durability;
+    private final long flushTimeoutMillis;
+    private final int maxRetries;
+    private final ConcurrentHashMap<Long, Order> statusView = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final Map<Long, Integer> failures = new HashMap<>();
+    private Map<Long, Order> pending = new HashMap<>();
+    private Set<Long> discarded = new HashSet<>();
+    private CompletableFuture<Set<Long>> nextFlush = new CompletableFuture<>();
+
+    public OrderStatusWriteBehindQueue(
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final PlatformTransactionManager transactionManager,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${kitchenpos.order.status-write-behind.durability:async}") final Durability durability,
+            @Value("${kitchenpos.order.status-write-behind.flush-timeout:5s}") final Duration flushTimeout,
+            @Value("${kitchenpos.order.status-write-behind.max-retries:3}") final int maxRetries
+    ) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.durability = durability;
+        this.flushTimeoutMillis = flushTimeout.toMillis();
+        this.maxRetries = maxRetries;
+    }
+
+    public Order changeOrderStatus(final Long orderId, final Order order) {
+        final AtomicReference<CompletableFuture<Set<Long>>> flush = new AtomicReference<>();
+        Order changed = null;
+        while (Objects.isNull(changed)) {
+            loadIfAbsent(orderId);
+            final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
+            changed = statusView.computeIfPresent(orderId, (id, current) -> {
+                if (Objects.equals(OrderStatus.COMPLETION.name(), current.getOrderStatus())) {
+                    throw new IllegalArgumentException();
+                }
+                final Order change = enqueue(current, orderStatus.name(), flush);
+                return withOrderStatus(current, orderStatus.name(), change.getVersion() + 1);
+            });
+        }
+
+        if (durability == Durability.GROUP_COMMIT) {
+            await(flush.get(), orderId);
+        }
+        return withOrderStatus(changed, changed.getOrderStatus(), changed.getVersion());
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.status-write-behind.flush-interval-millis:50}")
+    public void flush() {
+        final Map<Long, Order> batch;
+        final Set<Long> conflicted;
+        final CompletableFuture<Set<Long>> flushed;
+        synchronized (lock) {
+            if (pending.isEmpty() && discarded.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            conflicted = discarded;
+            flushed = nextFlush;
+            pending = new HashMap<>();
+            discarded = new HashSet<>();
+            nextFlush = new CompletableFuture<>();
+        }
+
+        final List<Order> changes = new ArrayList<>(batch.values());
+        try {
+            conflicted.addAll(write(changes));
+        } catch (final RuntimeException e) {
+            log.warn("failed to flush {} order status changes", batch.size(), e);
+            recover(batch);
+            flushed.completeExceptionally(e);
+            return;
+        }
+        synchronized (lock) {
+            batch.keySet().forEach(failures::remove);
+        }
+
+        final LocalDateTime changedTime = LocalDateTime.now();
+        for (final Order change : changes) {
+            if (conflicted.contains(change.getId())) {
+                discard(change);
+                continue;
+            }
+            eventPublisher.publishEvent(OrderChangedEvent.statusChanged(
+                    change.getId(), change.getOrderTableId(), change.getOrderStatus(), changedTime
+            ));
+            if (Objects.equals(OrderStatus.COMPLETION.name(), change.getOrderStatus())) {
+                evictIfUnchanged(change.getId(), change.getOrderStatus());
+            }
+        }
+        flushed.complete(conflicted);
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            pending.clear();
+            discarded.clear();
+            failures.clear();
+        }
+        statusView.clear();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    List<Long> write(final List<Order> changes) {
+        return transactionTemplate.execute(status -> orderDao.compareAndSetOrderStatusAll(changes));
+    }
+
+    private void loadIfAbsent(final Long orderId) {
+        if (statusView.containsKey(orderId)) {
+            return;
+        }
+        final Order order = orderDao.findById(orderId)
+                .orElseThrow(IllegalArgumentException::new);
+        order.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
+        statusView.putIfAbsent(orderId, order);
+    }
+
+    private Order enqueue(
+            final Order current,
+            final String orderStatus,
+            final AtomicReference<CompletableFuture<Set<Long>>> flush
+    ) {
+        synchronized (lock) {
+            flush.set(nextFlush);
+            return pending.compute(current.getId(), (orderId, previous) -> statusChange(
+                    current, orderStatus, Objects.isNull(previous) ? current.getVersion() : previous.getVersion()
+            ));
+        }
+    }
+
+    private void recover(final Map<Long, Order> batch) {
+        final Map<Long, String> dropped = new HashMap<>();
+        synchronized (lock) {
+            batch.forEach((orderId, change) -> {
+                final Order newer = pending.get(orderId);
+                if (Objects.nonNull(newer)) {
+                    pending.put(orderId, statusChange(newer, newer.getOrderStatus(), change.getVersion()));
+                }
+                if (durability == Durability.ASYNC && failures.merge(orderId, 1, Integer::sum) <= maxRetries) {
+                    pending.putIfAbsent(orderId, change);
+                    return;
+                }
+                failures.remove(orderId);
+                if (Objects.isNull(newer)) {
+                    dropped.put(orderId, change.getOrderStatus());
+                }
+            });
+        }
+        if (durability == Durability.ASYNC && !dropped.isEmpty()) {
+            log.error("dropped order status changes after {} retries: {}", maxRetries, dropped);
+        }
+        dropped.forEach(this::evictIfUnchanged);
+    }
+
+    private void discard(final Order change) {
+        log.warn("discarded order status change conflicting with a concurrent change: {} -> {}",
+                change.getId(), change.getOrderStatus());
+        synchronized (lock) {
+            if (Objects.nonNull(pending.remove(change.getId()))) {
+                discarded.add(change.getId());
+            }
+            failures.remove(change.getId());
+        }
+        statusView.remove(change.getId());
+    }
+
+    private void evictIfUnchanged(final Long orderId, final String orderStatus) {
+        statusView.computeIfPresent(orderId, (id, current) ->
+                Objects.equals(orderStatus, current.getOrderStatus()) ? null : current);
+    }
+
+    private void await(final CompletableFuture<Set<Long>> flush, final Long orderId) {
+        final Set<Long> conflicted;
+        try {
+            conflicted = flush.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (final TimeoutException e) {
+            throw new IllegalStateException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        if (conflicted.contains(orderId)) {
+            throw new OptimisticLockingFailureException("order " + orderId + " was changed concurrently");
+        }
+    }
+
+    private Order statusChange(final Order order, final String orderStatus, final Long expectedVersion) {
+        final Order change = new Order();
+        change.setId(order.getId());
+        change.setOrderTableId(order.getOrderTableId());
+        change.setOrderStatus(orderStatus);
+        change.setVersion(expectedVersion);
+        return change;
+    }
+
+    private Order withOrderStatus(final Order order, final String orderStatus, final Long version) {
+        final Order changed = new Order();
+        changed.setId(order.getId());
+        changed.setOrderTableId(order.getOrderTableId());
+        changed.setOrderStatus(orderStatus);
+        changed.setOrderedTime(order.getOrderedTime());
+        changed.setOrderLineItems(order.getOrderLineItems());
+        changed.setVersion(version);
+        return changed;
+    }
+
+    public enum Durability {
+        ASYNC,
+        GROUP_COMMIT
+    }
+}
@@ -0,0 +1,17 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderTable;
+
+import java.util.List;
+
+public class OrderTablesChangedEvent {
+    private final List<OrderTable> orderTables;
+
+    public OrderTablesChangedEvent(final List<OrderTable> orderTables) {
+        this.orderTables = orderTables;
+    }
+
+    public List<OrderTable> getOrderTables() {
+        return orderTables;
+    }
+}
@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Product;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,9 +13,11 @@ import java.util.Objects;
 @Service
 public class ProductService {
     private final ProductDao productDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(final ProductDao productDao, final ApplicationEventPublisher eventPublisher) {
         this.productDao = productDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -25,7 +28,10 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
 
-        return productDao.save(product);
+        final Product savedProduct = productDao.save(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+
+        return savedProduct;
     }
 
     public List<Product> list() {
@@ -1,31 +1,40 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.ActiveOrderIndex;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.dao.TableGroupDao;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class TableGroupService {
-    private final OrderDao orderDao;
+    private final ActiveOrderIndex activeOrderIndex;
     private final OrderTableDao orderTableDao;
     private final TableGroupDao tableGroupDao;
-
-    public TableGroupService(final OrderDao orderDao, final OrderTableDao orderTableDao, final TableGroupDao tableGroupDao) {
-        this.orderDao = orderDao;
+    private final TableLockManager tableLockManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TableGroupService(
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderTableDao orderTableDao,
+            final TableGroupDao tableGroupDao,
+            final TableLockManager tableLockManager,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        this.activeOrderIndex = activeOrderIndex;
         this.orderTableDao = orderTableDao;
         this.tableGroupDao = tableGroupDao;
+        this.tableLockManager = tableLockManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -40,6 +49,8 @@ public class TableGroupService {
                 .map(OrderTable::getId)
                 .collect(Collectors.toList());
 
+        tableLockManager.lockUntilCompletion(orderTableIds);
+
         final List<OrderTable> savedOrderTables = orderTableDao.findAllByIdIn(orderTableIds);
 
         if (orderTables.size() != savedOrderTables.size()) {
@@ -60,30 +71,38 @@ public class TableGroupService {
         for (final OrderTable savedOrderTable : savedOrderTables) {
             savedOrderTable.setTableGroupId(tableGroupId);
             savedOrderTable.setEmpty(false);
-            orderTableDao.save(savedOrderTable);
         }
+        orderTableDao.updateTableGroupIdIn(orderTableIds, tableGroupId, false);
         savedTableGroup.setOrderTables(savedOrderTables);
+        eventPublisher.publishEvent(new OrderTablesChangedEvent(savedOrderTables));
 
         return savedTableGroup;
     }
 
     @Transactional
     public void ungroup(final Long tableGroupId) {
-        final List<OrderTable> orderTables = orderTableDao.findAllByTableGroupId(tableGroupId);
+        tableLockManager.lockUntilCompletion(findOrderTableIds(tableGroupId));
 
+        final List<OrderTable> orderTables = orderTableDao.findAllByTableGroupId(tableGroupId);
         final List<Long> orderTableIds = orderTables.stream()
                 .map(OrderTable::getId)
                 .collect(Collectors.toList());
 
-        if (orderDao.existsByOrderTableIdInAndOrderStatusIn(
-                orderTableIds, Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))) {
+        if (activeOrderIndex.hasActiveOrderIn(orderTableIds)) {
             throw new IllegalArgumentException();
         }
 
+        orderTableDao.updateTableGroupIdIn(orderTableIds, null, false);
         for (final OrderTable orderTable : orderTables) {
             orderTable.setTableGroupId(null);
             orderTable.setEmpty(false);
-            orderTableDao.save(orderTable);
         }
+        eventPublisher.publishEvent(new OrderTablesChangedEvent(orderTables));
+    }
+
+    private List<Long> findOrderTableIds(final Long tableGroupId) {
+        return orderTableDao.findAllByTableGroupId(tableGroupId).stream()
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,86 @@
+package kitchenpos.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TableLockManager {
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long timeoutNanos;
+
+    public TableLockManager(
+            @Value("${kitchenpos.table-lock.stripes:64}") final int stripes,
+            @Value("${kitchenpos.table-lock.timeout:5s}") final Duration timeout
+    ) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public void lockUntilCompletion(final Collection<Long> orderTableIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("table locks must be acquired within a transaction");
+        }
+
+        final int[] stripes = orderTableIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        final List<ReentrantLock> acquired = new ArrayList<>(stripes.length);
+        try {
+            for (final int stripe : stripes) {
+                final ReentrantLock lock = locks[stripe];
+                if (!lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    throw new CannotAcquireLockException("timed out waiting for order table lock");
+                }
+                acquired.add(lock);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(acquired);
+            throw new CannotAcquireLockException("interrupted while waiting for order table lock", e);
+        } catch (final RuntimeException e) {
+            unlock(acquired);
+            throw e;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                unlock(acquired);
+            }
+        });
+    }
+
+    private int stripeOf(final Long orderTableId) {
+        final int hash = Long.hashCode(orderTableId);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void unlock(final List<ReentrantLock> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            acquired.get(i).unlock();
+        }
+    }
+}
@@ -1,24 +1,35 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.OrderDao;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.dao.ActiveOrderIndex;
 import kitchenpos.dao.OrderTableDao;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 @Service
 public class TableService {
-    private final OrderDao orderDao;
-    private final OrderTableDao orderTableDao;
+    private static final int MAX_CHANGE_SET_SIZE = 1000;
 
-    public TableService(final OrderDao orderDao, final OrderTableDao orderTableDao) {
-        this.orderDao = orderDao;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final OrderTableDao orderTableDao;
+    private final TableLockManager tableLockManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TableService(
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderTableDao orderTableDao,
+            final TableLockManager tableLockManager,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        this.activeOrderIndex = activeOrderIndex;
         this.orderTableDao = orderTableDao;
+        this.tableLockManager = tableLockManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -26,15 +37,21 @@ public class TableService {
         orderTable.setId(null);
         orderTable.setTableGroupId(null);
 
-        return orderTableDao.save(orderTable);
+        return publishChanged(orderTableDao.save(orderTable));
     }
 
     public List<OrderTable> list() {
         return orderTableDao.findAll();
     }
 
+    public ChangeSet<OrderTable> listChangedSince(final long version) {
+        return orderTableDao.findAllByChangeVersionGreaterThan(version, MAX_CHANGE_SET_SIZE);
+    }
+
     @Transactional
     public OrderTable changeEmpty(final Long orderTableId, final OrderTable orderTable) {
+        tableLockManager.lockUntilCompletion(List.of(orderTableId));
+
         final OrderTable savedOrderTable = orderTableDao.findById(orderTableId)
                 .orElseThrow(IllegalArgumentException::new);
 
@@ -42,14 +59,13 @@ public class TableService {
             throw new IllegalArgumentException();
         }
 
-        if (orderDao.existsByOrderTableIdAndOrderStatusIn(
-                orderTableId, Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))) {
+        if (activeOrderIndex.hasActiveOrder(orderTableId)) {
             throw new IllegalArgumentException();
         }
 
         savedOrderTable.setEmpty(orderTable.isEmpty());
 
-        return orderTableDao.save(savedOrderTable);
+        return publishChanged(orderTableDao.save(savedOrderTable));
     }
 
     @Transactional
@@ -60,6 +76,8 @@ public class TableService {
             throw new IllegalArgumentException();
         }
 
+        tableLockManager.lockUntilCompletion(List.of(orderTableId));
+
         final OrderTable savedOrderTable = orderTableDao.findById(orderTableId)
                 .orElseThrow(IllegalArgumentException::new);
 
@@ -69,6 +87,11 @@ public class TableService {
 
         savedOrderTable.setNumberOfGuests(numberOfGuests);
 
-        return orderTableDao.save(savedOrderTable);
+        return publishChanged(orderTableDao.save(savedOrderTable));
+    }
+
+    private OrderTable publishChanged(final OrderTable orderTable) {
+        eventPublisher.publishEvent(new OrderTablesChangedEvent(List.of(orderTable)));
+        return orderTable;
     }
 }
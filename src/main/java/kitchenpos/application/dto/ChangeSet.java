@@ -0,0 +1,31 @@
+package kitchenpos.application.dto;
+
+import java.util.List;
+
+public class ChangeSet<T> {
+    private final List<T> items;
+    private final List<Long> removedIds;
+    private final long version;
+
+    public ChangeSet(final List<T> items, final long version) {
+        this(items, List.of(), version);
+    }
+
+    public ChangeSet(final List<T> items, final List<Long> removedIds, final long version) {
+        this.items = items;
+        this.removedIds = removedIds;
+        this.version = version;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public List<Long> getRemovedIds() {
+        return removedIds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
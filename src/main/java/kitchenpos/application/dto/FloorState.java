@@ -0,0 +1,21 @@
+package kitchenpos.application.dto;
+
+import java.util.List;
+
+public class FloorState {
+    private final long version;
+    private final List<FloorTable> tables;
+
+    public FloorState(final long version, final List<FloorTable> tables) {
+        this.version = version;
+        this.tables = tables;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<FloorTable> getTables() {
+        return tables;
+    }
+}
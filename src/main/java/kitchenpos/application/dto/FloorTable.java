@@ -0,0 +1,43 @@
+package kitchenpos.application.dto;
+
+public class FloorTable {
+    private final Long id;
+    private final Long tableGroupId;
+    private final int numberOfGuests;
+    private final boolean empty;
+    private final boolean openOrder;
+
+    public FloorTable(
+            final Long id,
+            final Long tableGroupId,
+            final int numberOfGuests,
+            final boolean empty,
+            final boolean openOrder
+    ) {
+        this.id = id;
+        this.tableGroupId = tableGroupId;
+        this.numberOfGuests = numberOfGuests;
+        this.empty = empty;
+        this.openOrder = openOrder;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public int getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean isOpenOrder() {
+        return openOrder;
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.application.dto;
+
+public class OrderBulkResult {
+    private final int index;
+    private final boolean created;
+    private final Long orderId;
+    private final RejectReason rejectReason;
+
+    private OrderBulkResult(final int index, final boolean created, final Long orderId, final RejectReason rejectReason) {
+        this.index = index;
+        this.created = created;
+        this.orderId = orderId;
+        this.rejectReason = rejectReason;
+    }
+
+    public static OrderBulkResult created(final int index, final Long orderId) {
+        return new OrderBulkResult(index, true, orderId, null);
+    }
+
+    public static OrderBulkResult rejected(final int index, final RejectReason rejectReason) {
+        return new OrderBulkResult(index, false, null, rejectReason);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public RejectReason getRejectReason() {
+        return rejectReason;
+    }
+
+    public enum RejectReason {
+        NO_ORDER_LINE_ITEMS,
+        UNKNOWN_MENU,
+        UNKNOWN_ORDER_TABLE,
+        EMPTY_ORDER_TABLE
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.application.dto;
+
+import java.time.LocalDateTime;
+
+public class OrderStatusSummary {
+    private final Long id;
+    private final String orderStatus;
+    private final LocalDateTime changedTime;
+
+    public OrderStatusSummary(final Long id, final String orderStatus, final LocalDateTime changedTime) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.changedTime = changedTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getChangedTime() {
+        return changedTime;
+    }
+}
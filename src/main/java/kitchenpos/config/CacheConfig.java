@@ -0,0 +1,26 @@
+package kitchenpos.config;
+
+import kitchenpos.dao.CatalogCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec:}") final String cacheSpecification) {
+        final CaffeineCacheManager cacheManager = new CopyingCaffeineCacheManager();
+        if (StringUtils.hasText(cacheSpecification)) {
+            cacheManager.setCacheSpecification(cacheSpecification);
+        }
+        cacheManager.setCacheNames(CatalogCaches.ALL);
+        return cacheManager;
+    }
+}
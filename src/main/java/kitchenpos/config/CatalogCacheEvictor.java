@@ -0,0 +1,41 @@
+package kitchenpos.config;
+
+import kitchenpos.application.CatalogChangedEvent;
+import kitchenpos.application.CatalogVersion;
+import kitchenpos.dao.CatalogCaches;
+import kitchenpos.ui.CatalogResponseCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Component
+public class CatalogCacheEvictor {
+    private final CacheManager cacheManager;
+    private final CatalogResponseCache catalogResponseCache;
+    private final CatalogVersion catalogVersion;
+
+    public CatalogCacheEvictor(
+            final CacheManager cacheManager,
+            final CatalogResponseCache catalogResponseCache,
+            final CatalogVersion catalogVersion
+    ) {
+        this.cacheManager = cacheManager;
+        this.catalogResponseCache = catalogResponseCache;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(final CatalogChangedEvent event) {
+        for (final String cacheName : CatalogCaches.ALL) {
+            final Cache cache = cacheManager.getCache(cacheName);
+            if (Objects.nonNull(cache)) {
+                cache.clear();
+            }
+        }
+        catalogResponseCache.evict();
+        catalogVersion.increment();
+    }
+}
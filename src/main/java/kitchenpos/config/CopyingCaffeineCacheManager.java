@@ -0,0 +1,110 @@
+package kitchenpos.config;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CopyingCaffeineCacheManager extends CaffeineCacheManager {
+
+    @Override
+    protected Cache adaptCaffeineCache(
+            final String name,
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache
+    ) {
+        return new CopyingCaffeineCache(name, cache, isAllowNullValues());
+    }
+
+    static Object copy(final Object value) {
+        if (Objects.isNull(value) || value instanceof Boolean || value instanceof Number || value instanceof String) {
+            return value;
+        }
+        if (value instanceof List) {
+            final List<Object> copied = new ArrayList<>();
+            for (final Object element : (List<?>) value) {
+                copied.add(copy(element));
+            }
+            return copied;
+        }
+        if (value instanceof Optional) {
+            return ((Optional<?>) value).map(CopyingCaffeineCacheManager::copy);
+        }
+        if (value instanceof Menu) {
+            return copyMenu((Menu) value);
+        }
+        if (value instanceof MenuProduct) {
+            return copyMenuProduct((MenuProduct) value);
+        }
+        if (value instanceof MenuGroup) {
+            return copyMenuGroup((MenuGroup) value);
+        }
+        if (value instanceof Product) {
+            return copyProduct((Product) value);
+        }
+        throw new IllegalArgumentException("cannot copy cached value of type " + value.getClass().getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Menu copyMenu(final Menu menu) {
+        final Menu copied = new Menu();
+        copied.setId(menu.getId());
+        copied.setName(menu.getName());
+        copied.setPrice(menu.getPrice());
+        copied.setMenuGroupId(menu.getMenuGroupId());
+        copied.setMenuProducts((List<MenuProduct>) copy(menu.getMenuProducts()));
+        return copied;
+    }
+
+    private static MenuProduct copyMenuProduct(final MenuProduct menuProduct) {
+        final MenuProduct copied = new MenuProduct();
+        copied.setSeq(menuProduct.getSeq());
+        copied.setMenuId(menuProduct.getMenuId());
+        copied.setProductId(menuProduct.getProductId());
+        copied.setQuantity(menuProduct.getQuantity());
+        return copied;
+    }
+
+    private static MenuGroup copyMenuGroup(final MenuGroup menuGroup) {
+        final MenuGroup copied = new MenuGroup();
+        copied.setId(menuGroup.getId());
+        copied.setName(menuGroup.getName());
+        return copied;
+    }
+
+    private static Product copyProduct(final Product product) {
+        final Product copied = new Product();
+        copied.setId(product.getId());
+        copied.setName(product.getName());
+        copied.setPrice(product.getPrice());
+        return copied;
+    }
+
+    private static class CopyingCaffeineCache extends CaffeineCache {
+
+        private CopyingCaffeineCache(
+                final String name,
+                final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                final boolean allowNullValues
+        ) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object toStoreValue(final Object userValue) {
+            return super.toStoreValue(copy(userValue));
+        }
+
+        @Override
+        protected Object fromStoreValue(final Object storeValue) {
+            return copy(super.fromStoreValue(storeValue));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class MetricsAspect {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Method, Timers> serviceTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, DaoMeters> daoMeters = new ConcurrentHashMap<>();
+
+    public MetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(kitchenpos.application..*) && @within(org.springframework.stereotype.Service)")
+    public Object measureServiceMethod(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Signature signature = joinPoint.getSignature();
+        final Timers timers = serviceTimers.computeIfAbsent(methodOf(signature), method -> new Timers(
+                "kitchenpos.service",
+                Tags.of("class", signature.getDeclaringType().getSimpleName(), "method", signature.getName())
+        ));
+        return time(timers, joinPoint);
+    }
+
+    @Around("within(kitchenpos.dao..*) && @within(org.springframework.stereotype.Repository)")
+    public Object measureDaoMethod(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Signature signature = joinPoint.getSignature();
+        final DaoMeters meters = daoMeters.computeIfAbsent(methodOf(signature), method -> new DaoMeters(
+                Tags.of("dao", signature.getDeclaringType().getSimpleName(), "method", signature.getName())
+        ));
+        meters.queries.increment();
+
+        final Object result = time(meters.timers, joinPoint);
+
+        rowsOf(result).ifPresent(rows -> meters.rows().record(rows));
+        return result;
+    }
+
+    private Object time(final Timers timers, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timers.get(exception));
+        }
+    }
+
+    private Method methodOf(final Signature signature) {
+        return ((MethodSignature) signature).getMethod();
+    }
+
+    private Optional<Integer> rowsOf(final Object result) {
+        if (result instanceof Collection) {
+            return Optional.of(((Collection<?>) result).size());
+        }
+        if (result instanceof Optional) {
+            return Optional.of(((Optional<?>) result).isPresent() ? 1 : 0);
+        }
+        return Optional.empty();
+    }
+
+    private class Timers {
+        private final String name;
+        private final Tags tags;
+        private final Timer success;
+        private final ConcurrentHashMap<String, Timer> failures = new ConcurrentHashMap<>();
+
+        private Timers(final String name, final Tags tags) {
+            this.name = name;
+            this.tags = tags;
+            this.success = register(NO_EXCEPTION);
+        }
+
+        private Timer get(final String exception) {
+            if (Objects.equals(NO_EXCEPTION, exception)) {
+                return success;
+            }
+            return failures.computeIfAbsent(exception, this::register);
+        }
+
+        private Timer register(final String exception) {
+            return Timer.builder(name)
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry);
+        }
+    }
+
+    private class DaoMeters {
+        private final Tags tags;
+        private final Timers timers;
+        private final Counter queries;
+        private volatile DistributionSummary rows;
+
+        private DaoMeters(final Tags tags) {
+            this.tags = tags;
+            this.timers = new Timers("kitchenpos.dao.query", tags);
+            this.queries = Counter.builder("kitchenpos.dao.queries")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        private DistributionSummary rows() {
+            DistributionSummary summary = rows;
+            if (Objects.isNull(summary)) {
+                summary = DistributionSummary.builder("kitchenpos.dao.rows")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry);
+                rows = summary;
+            }
+            return summary;
+        }
+    }
+}
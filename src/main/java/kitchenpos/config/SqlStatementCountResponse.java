@@ -0,0 +1,146 @@
+package kitchenpos.config;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Objects;
+
+class SqlStatementCountResponse extends HttpServletResponseWrapper {
+    static final String HEADER_NAME = "X-SQL-Statement-Count";
+
+    private final SqlStatementCounter.Statements statements;
+    private boolean headerWritten;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    SqlStatementCountResponse(final HttpServletResponse response, final SqlStatementCounter.Statements statements) {
+        super(response);
+        this.statements = statements;
+    }
+
+    void writeHeader() {
+        if (headerWritten || isCommitted()) {
+            return;
+        }
+        headerWritten = true;
+        setHeader(HEADER_NAME, String.valueOf(statements.getCount()));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (Objects.isNull(outputStream)) {
+            outputStream = new HeaderWritingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (Objects.isNull(writer)) {
+            writer = new PrintWriter(new HeaderWritingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(final int sc) throws IOException {
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(final int sc, final String msg) throws IOException {
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(final String location) throws IOException {
+        writeHeader();
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        headerWritten = false;
+    }
+
+    private class HeaderWritingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private HeaderWritingOutputStream(final ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            writeHeader();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            writeHeader();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class HeaderWritingWriter extends Writer {
+        private final Writer delegate;
+
+        private HeaderWritingWriter(final Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            writeHeader();
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeHeader();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public final class SqlStatementCounter {
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Statements());
+    }
+
+    public static Statements stop() {
+        final Statements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements;
+    }
+
+    public static Statements current() {
+        return CURRENT.get();
+    }
+
+    public static void record(final String sql) {
+        final Statements statements = CURRENT.get();
+        if (Objects.nonNull(statements)) {
+            statements.add(shapeOf(sql));
+        }
+    }
+
+    private static String shapeOf(final String sql) {
+        if (Objects.isNull(sql)) {
+            return "";
+        }
+        final String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("(?)");
+    }
+
+    public static class Statements {
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private int count;
+
+        private void add(final String shape) {
+            count++;
+            countsByShape.merge(shape, 1, Integer::sum);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Map<String, Integer> getCountsByShape() {
+            return Collections.unmodifiableMap(countsByShape);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeatedStatements;
+    private final boolean failOnViolation;
+    private final ConcurrentHashMap<String, DistributionSummary> statementSummaries = new ConcurrentHashMap<>();
+
+    public SqlStatementCountingFilter(
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.sql-monitor.max-statements:50}") final int maxStatements,
+            @Value("${kitchenpos.sql-monitor.max-repeated-statements:10}") final int maxRepeatedStatements,
+            @Value("${kitchenpos.sql-monitor.fail-on-violation:false}") final boolean failOnViolation
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeatedStatements = maxRepeatedStatements;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        final SqlStatementCountResponse countResponse =
+                new SqlStatementCountResponse(response, SqlStatementCounter.current());
+        final SqlStatementCounter.Statements statements;
+        try {
+            filterChain.doFilter(request, countResponse);
+        } finally {
+            countResponse.writeHeader();
+            statements = SqlStatementCounter.stop();
+        }
+
+        final String method = request.getMethod();
+        final String uri = uriPatternOf(request);
+        final String requestPattern = method + " " + uri;
+        final DistributionSummary summary = statementSummaries.computeIfAbsent(requestPattern, key ->
+                DistributionSummary.builder("kitchenpos.http.sql.statements")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+        );
+        summary.record(statements.getCount());
+        verify(requestPattern, statements);
+    }
+
+    private void verify(final String request, final SqlStatementCounter.Statements statements) {
+        final Map<String, Integer> repeatedStatements = statements.getCountsByShape().entrySet().stream()
+                .filter(entry -> entry.getValue() > maxRepeatedStatements)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (statements.getCount() <= maxStatements && repeatedStatements.isEmpty()) {
+            return;
+        }
+
+        final String message = String.format("%s executed %d SQL statements (max %d), repeated statements over %d: %s",
+                request, statements.getCount(), maxStatements, maxRepeatedStatements, repeatedStatements);
+        if (failOnViolation) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private String uriPatternOf(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (Objects.isNull(pattern)) {
+            return "UNKNOWN";
+        }
+        return pattern.toString();
+    }
+}
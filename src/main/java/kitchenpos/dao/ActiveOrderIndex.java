@@ -0,0 +1,255 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+@Component
+public class ActiveOrderIndex {
+    private static final Logger log = LoggerFactory.getLogger(ActiveOrderIndex.class);
+    private static final List<String> ACTIVE_ORDER_STATUSES = List.of(OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+    private static final long UNVERSIONED = -1L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LongLongHashMap uncommittedOrderTables = new LongLongHashMap();
+    private final RebuildableSnapshot<State, Long> snapshot;
+
+    public ActiveOrderIndex(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.snapshot = new RebuildableSnapshot<>(
+                this::load,
+                (state, version) -> version,
+                State::isStale,
+                this::uncommittedOrders
+        );
+    }
+
+    public boolean hasActiveOrder(final Long orderTableId) {
+        return hasActiveOrderIn(List.of(orderTableId));
+    }
+
+    public boolean hasActiveOrderIn(final Collection<Long> orderTableIds) {
+        final Boolean active = read((state, version) -> state.hasActiveOrderIn(orderTableIds));
+        if (Objects.isNull(active)) {
+            return existsActiveOrderIn(orderTableIds);
+        }
+        return active;
+    }
+
+    public ActiveOrderTables activeOrderTables() {
+        final ActiveOrderTables activeOrderTables = read(State::toActiveOrderTables);
+        if (Objects.isNull(activeOrderTables)) {
+            return new ActiveOrderTables(countActiveOrdersByOrderTable(), UNVERSIONED);
+        }
+        return activeOrderTables;
+    }
+
+    public long version() {
+        final Long version = snapshot.get();
+        if (Objects.isNull(version)) {
+            return UNVERSIONED;
+        }
+        return version;
+    }
+
+    public void ordersSaved(final List<Order> orders) {
+        final List<Order> activeOrders = new ArrayList<>();
+        for (final Order order : orders) {
+            if (isActive(order.getOrderStatus())) {
+                activeOrders.add(order);
+            }
+        }
+        if (activeOrders.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot.apply(current -> activeOrders.forEach(order -> current.add(order.getId(), order.getOrderTableId())));
+            return;
+        }
+
+        synchronized (uncommittedOrderTables) {
+            for (final Order order : activeOrders) {
+                uncommittedOrderTables.putIfAbsent(order.getId(), order.getOrderTableId());
+            }
+        }
+        snapshot.apply(current -> activeOrders.forEach(order -> current.add(order.getId(), order.getOrderTableId())));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                synchronized (uncommittedOrderTables) {
+                    for (final Order order : activeOrders) {
+                        uncommittedOrderTables.remove(order.getId(), 0L);
+                    }
+                }
+                if (status != STATUS_COMMITTED) {
+                    invalidate();
+                }
+            }
+        });
+    }
+
+    public void orderStatusesChanged(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        final List<Order> changedOrders = List.copyOf(orders);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyStatusChanges(changedOrders);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyStatusChanges(changedOrders);
+            }
+        });
+    }
+
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        snapshot.rebuild();
+    }
+
+    LongLongHashMap findActiveOrderTables() {
+        final String sql = "SELECT id, order_table_id FROM orders WHERE order_status IN (:orderStatuses)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatuses", ACTIVE_ORDER_STATUSES);
+        final LongLongHashMap activeOrderTables = new LongLongHashMap();
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            activeOrderTables.putIfAbsent(resultSet.getLong("id"), resultSet.getLong("order_table_id"));
+        });
+        return activeOrderTables;
+    }
+
+    private <T> T read(final BiFunction<State, Long, T> reader) {
+        final T result = snapshot.read(reader);
+        if (Objects.nonNull(result)) {
+            return result;
+        }
+        try {
+            snapshot.rebuild();
+        } catch (final RuntimeException e) {
+            log.warn("failed to rebuild the active order index", e);
+            return null;
+        }
+        return snapshot.read(reader);
+    }
+
+    private State load() {
+        final State loaded = new State();
+        findActiveOrderTables().forEach(loaded::add);
+        return loaded;
+    }
+
+    private Consumer<State> uncommittedOrders() {
+        final LongLongHashMap orders;
+        synchronized (uncommittedOrderTables) {
+            orders = uncommittedOrderTables.copy();
+        }
+        return current -> orders.forEach(current::add);
+    }
+
+    private void applyStatusChanges(final List<Order> orders) {
+        snapshot.apply(current -> {
+            for (final Order order : orders) {
+                if (isActive(order.getOrderStatus())) {
+                    current.requireActive(order.getId());
+                    continue;
+                }
+                current.remove(order.getId());
+            }
+        });
+    }
+
+    private LongLongHashMap countActiveOrdersByOrderTable() {
+        final String sql = "SELECT order_table_id, COUNT(*) AS active_orders FROM orders" +
+                " WHERE order_status IN (:orderStatuses) GROUP BY order_table_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatuses", ACTIVE_ORDER_STATUSES);
+        final LongLongHashMap activeOrderCounts = new LongLongHashMap();
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            activeOrderCounts.putIfAbsent(resultSet.getLong("order_table_id"), resultSet.getLong("active_orders"));
+        });
+        return activeOrderCounts;
+    }
+
+    private boolean existsActiveOrderIn(final Collection<Long> orderTableIds) {
+        final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
+                " FROM orders WHERE order_table_id IN (:orderTableIds) AND order_status IN (:orderStatuses)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableIds", orderTableIds)
+                .addValue("orderStatuses", ACTIVE_ORDER_STATUSES);
+        return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
+    }
+
+    private boolean isActive(final String orderStatus) {
+        return Objects.nonNull(orderStatus) && ACTIVE_ORDER_STATUSES.contains(orderStatus);
+    }
+
+    private static class State {
+        private final LongLongHashMap activeOrderTables = new LongLongHashMap();
+        private final LongLongHashMap activeOrderCounts = new LongLongHashMap();
+        private boolean stale;
+
+        private void add(final long orderId, final long orderTableId) {
+            if (activeOrderTables.putIfAbsent(orderId, orderTableId)) {
+                activeOrderCounts.addTo(orderTableId, 1L);
+            }
+        }
+
+        private void remove(final long orderId) {
+            if (!activeOrderTables.containsKey(orderId)) {
+                return;
+            }
+            final long orderTableId = activeOrderTables.remove(orderId, 0L);
+            if (activeOrderCounts.addTo(orderTableId, -1L) <= 0) {
+                activeOrderCounts.remove(orderTableId, 0L);
+            }
+        }
+
+        private void requireActive(final long orderId) {
+            if (!activeOrderTables.containsKey(orderId)) {
+                stale = true;
+            }
+        }
+
+        private boolean isStale() {
+            return stale;
+        }
+
+        private boolean hasActiveOrderIn(final Collection<Long> orderTableIds) {
+            for (final Long orderTableId : orderTableIds) {
+                if (Objects.nonNull(orderTableId) && activeOrderCounts.get(orderTableId, 0L) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private ActiveOrderTables toActiveOrderTables(final long version) {
+            return new ActiveOrderTables(activeOrderCounts.copy(), version);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.dao;
+
+import java.util.Objects;
+
+public class ActiveOrderTables {
+    private final LongLongHashMap activeOrderCounts;
+    private final long version;
+
+    ActiveOrderTables(final LongLongHashMap activeOrderCounts, final long version) {
+        this.activeOrderCounts = activeOrderCounts;
+        this.version = version;
+    }
+
+    public boolean contains(final Long orderTableId) {
+        return Objects.nonNull(orderTableId) && activeOrderCounts.get(orderTableId, 0L) > 0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
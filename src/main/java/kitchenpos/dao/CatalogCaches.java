@@ -0,0 +1,21 @@
+package kitchenpos.dao;
+
+import java.util.List;
+
+public final class CatalogCaches {
+    public static final String MENUS = "menus";
+    public static final String MENU_GROUPS = "menuGroups";
+    public static final String MENU_GROUP_EXISTENCE = "menuGroupExistence";
+    public static final String PRODUCT = "product";
+    public static final String PRODUCTS = "products";
+    public static final String MENU_PRODUCTS = "menuProducts";
+    public static final String MENU_PRODUCTS_BY_MENU_IDS = "menuProductsByMenuIds";
+
+    public static final List<String> ALL = List.of(
+            MENUS, MENU_GROUPS, MENU_GROUP_EXISTENCE,
+            PRODUCT, PRODUCTS, MENU_PRODUCTS, MENU_PRODUCTS_BY_MENU_IDS
+    );
+
+    private CatalogCaches() {
+    }
+}
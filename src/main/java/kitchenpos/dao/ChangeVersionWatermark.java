@@ -0,0 +1,81 @@
+package kitchenpos.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class ChangeVersionWatermark {
+    private static final String LAST_ALLOCATED_SQL = "SELECT BASE_VALUE - 1 FROM INFORMATION_SCHEMA.SEQUENCES" +
+            " WHERE UPPER(SEQUENCE_NAME) = 'CHANGE_VERSION_SEQ'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Object, Long> writers = new IdentityHashMap<>();
+    private long lastAllocated;
+
+    public ChangeVersionWatermark(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public <T> T write(final Supplier<T> statement) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            final Object writer = register();
+            try {
+                return statement.get();
+            } finally {
+                unregister(writer);
+            }
+        }
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            final Object writer = register();
+            TransactionSynchronizationManager.bindResource(this, writer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeVersionWatermark.this);
+                    unregister(writer);
+                }
+            });
+        }
+        return statement.get();
+    }
+
+    public void writeWithoutResult(final Runnable statement) {
+        write(() -> {
+            statement.run();
+            return null;
+        });
+    }
+
+    public long current() {
+        final long allocated = jdbcTemplate.queryForObject(LAST_ALLOCATED_SQL, Long.class);
+        synchronized (writers) {
+            lastAllocated = Math.max(lastAllocated, allocated);
+            long watermark = allocated;
+            for (final long bound : writers.values()) {
+                watermark = Math.min(watermark, bound);
+            }
+            return watermark;
+        }
+    }
+
+    private Object register() {
+        final Object writer = new Object();
+        synchronized (writers) {
+            writers.put(writer, lastAllocated);
+        }
+        return writer;
+    }
+
+    private void unregister(final Object writer) {
+        synchronized (writers) {
+            writers.remove(writer);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.MenuProduct;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,7 @@ import java.util.Optional;
 public class JdbcTemplateMenuProductDao implements MenuProductDao {
     private static final String TABLE_NAME = "menu_product";
     private static final String KEY_COLUMN_NAME = "seq";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +38,8 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
     public MenuProduct save(final MenuProduct entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        entity.setSeq(key.longValue());
+        return entity;
     }
 
     @Override
@@ -54,6 +58,7 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
     }
 
     @Override
+    @Cacheable(CatalogCaches.MENU_PRODUCTS)
     public List<MenuProduct> findAllByMenuId(final Long menuId) {
         final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id = (:menuId)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -61,6 +66,20 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    @Cacheable(CatalogCaches.MENU_PRODUCTS_BY_MENU_IDS)
+    public List<MenuProduct> findAllByMenuIdIn(final List<Long> menuIds) {
+        final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id IN (:menuIds)";
+        final List<MenuProduct> entities = new ArrayList<>();
+        for (int from = 0; from < menuIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, menuIds.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("menuIds", menuIds.subList(from, to));
+            entities.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return entities;
+    }
+
     private MenuProduct select(final Long id) {
         final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -0,0 +1,101 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateOrderArchiveDao implements OrderArchiveDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ChangeVersionWatermark changeVersionWatermark;
+
+    public JdbcTemplateOrderArchiveDao(final DataSource dataSource, final ChangeVersionWatermark changeVersionWatermark) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.changeVersionWatermark = changeVersionWatermark;
+    }
+
+    @Override
+    public List<Long> findArchivableOrderIds(final LocalDateTime orderedBefore, final int limit) {
+        final String sql = "SELECT id FROM orders WHERE order_status = (:orderStatus) AND ordered_time < (:orderedBefore)" +
+                " ORDER BY ordered_time LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("orderedBefore", orderedBefore)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public int archive(final List<Long> orderIds, final LocalDateTime archivedTime) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds)
+                .addValue("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("archivedTime", archivedTime);
+
+        final int archived = changeVersionWatermark.write(() -> jdbcTemplate.update("INSERT INTO archived_orders" +
+                " (id, order_table_id, order_status, ordered_time, version, archived_time)" +
+                " SELECT id, order_table_id, order_status, ordered_time, version, (:archivedTime) FROM orders" +
+                " WHERE id IN (:orderIds) AND order_status = (:orderStatus)", parameters));
+        if (archived != orderIds.size()) {
+            throw new IllegalStateException();
+        }
+        jdbcTemplate.update("INSERT INTO archived_order_line_item (seq, order_id, menu_id, quantity)" +
+                " SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN (:orderIds)", parameters);
+        return archived;
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long id, final int limit) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version FROM archived_orders" +
+                " WHERE id > (:id) ORDER BY id LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toOrder(resultSet));
+    }
+
+    @Override
+    public List<OrderLineItem> findAllOrderLineItemsByOrderIdIn(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM archived_order_line_item WHERE order_id IN (:orderIds)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toOrderLineItem(resultSet));
+    }
+
+    private Order toOrder(final ResultSet resultSet) throws SQLException {
+        final Order entity = new Order();
+        entity.setId(resultSet.getLong("id"));
+        entity.setOrderTableId(resultSet.getLong("order_table_id"));
+        entity.setOrderStatus(resultSet.getString("order_status"));
+        entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        entity.setVersion(resultSet.getLong("version"));
+        return entity;
+    }
+
+    private OrderLineItem toOrderLineItem(final ResultSet resultSet) throws SQLException {
+        final OrderLineItem entity = new OrderLineItem();
+        entity.setSeq(resultSet.getLong("seq"));
+        entity.setOrderId(resultSet.getLong("order_id"));
+        entity.setMenuId(resultSet.getLong("menu_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        return entity;
+    }
+}
@@ -1,34 +1,59 @@
 package kitchenpos.dao;
 
+import kitchenpos.application.dto.ChangeSet;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JdbcTemplateOrderDao implements OrderDao {
     private static final String TABLE_NAME = "orders";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final long INITIAL_VERSION = 0L;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final ChangeVersionWatermark changeVersionWatermark;
 
-    public JdbcTemplateOrderDao(final DataSource dataSource) {
+    public JdbcTemplateOrderDao(
+            final DataSource dataSource,
+            final ActiveOrderIndex activeOrderIndex,
+            final ChangeVersionWatermark changeVersionWatermark
+    ) {
+        this.activeOrderIndex = activeOrderIndex;
+        this.changeVersionWatermark = changeVersionWatermark;
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
+                .usingColumns("order_table_id", "order_status", "ordered_time")
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
         ;
     }
@@ -36,14 +61,99 @@ public class JdbcTemplateOrderDao implements OrderDao {
     @Override
     public Order save(final Order entity) {
         if (Objects.isNull(entity.getId())) {
+            entity.setOrderedTime(toColumnPrecision(entity.getOrderedTime()));
             final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            final Number key = changeVersionWatermark.write(() -> jdbcInsert.executeAndReturnKey(parameters));
+            entity.setId(key.longValue());
+            entity.setVersion(INITIAL_VERSION);
+            activeOrderIndex.ordersSaved(List.of(entity));
+            return entity;
         }
         update(entity);
+        activeOrderIndex.orderStatusesChanged(List.of(entity));
         return entity;
     }
 
+    @Override
+    public List<Order> saveAll(final List<Order> entities) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        final String sql = "INSERT INTO orders (order_table_id, order_status, ordered_time)" +
+                " VALUES (:orderTableId, :orderStatus, :orderedTime)";
+        entities.forEach(entity -> entity.setOrderedTime(toColumnPrecision(entity.getOrderedTime())));
+        final SqlParameterSource[] parameters = SqlParameterSourceUtils.createBatch(entities);
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        changeVersionWatermark.write(() -> jdbcTemplate.batchUpdate(sql, parameters, keyHolder, new String[]{KEY_COLUMN_NAME}));
+        final List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < entities.size(); i++) {
+            final Number key = (Number) keys.get(i).get(KEY_COLUMN_NAME);
+            entities.get(i).setId(key.longValue());
+            entities.get(i).setVersion(INITIAL_VERSION);
+        }
+        activeOrderIndex.ordersSaved(entities);
+        return entities;
+    }
+
+    @Override
+    public List<Long> compareAndSetOrderStatusAll(final List<Order> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)," +
+                " version = version + 1, change_version = NEXT VALUE FOR change_version_seq" +
+                " WHERE id = (:id) AND version = (:version)";
+        final int[] updateCounts = changeVersionWatermark.write(
+                () -> jdbcTemplate.batchUpdate(sql, SqlParameterSourceUtils.createBatch(entities))
+        );
+        final List<Order> changedEntities = new ArrayList<>(entities.size());
+        final List<Long> conflictedIds = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            if (updateCounts[i] == 0) {
+                conflictedIds.add(entities.get(i).getId());
+            } else {
+                changedEntities.add(entities.get(i));
+            }
+        }
+        activeOrderIndex.orderStatusesChanged(changedEntities);
+        return conflictedIds;
+    }
+
+    @Override
+    public Optional<Long> updateOrderStatusIfNotCompleted(final Long id, final String orderStatus) {
+        final String sql = "SELECT order_table_id FROM FINAL TABLE (" +
+                "UPDATE orders SET order_status = (:orderStatus)," +
+                " version = version + 1, change_version = NEXT VALUE FOR change_version_seq" +
+                " WHERE id = (:id) AND order_status <> 'COMPLETION')";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus)
+                .addValue("id", id);
+        final List<Long> orderTableIds = changeVersionWatermark.write(
+                () -> jdbcTemplate.queryForList(sql, parameters, Long.class)
+        );
+        if (orderTableIds.isEmpty()) {
+            return Optional.empty();
+        }
+        activeOrderIndex.orderStatusesChanged(List.of(statusChange(id, orderStatus)));
+        return Optional.of(orderTableIds.get(0));
+    }
+
+    @Override
+    public boolean compareAndSetOrderStatus(final Long id, final long version, final String orderStatus) {
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)," +
+                " version = version + 1, change_version = NEXT VALUE FOR change_version_seq" +
+                " WHERE id = (:id) AND version = (:version)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus)
+                .addValue("id", id)
+                .addValue("version", version);
+        if (changeVersionWatermark.write(() -> jdbcTemplate.update(sql, parameters)) != 1) {
+            return false;
+        }
+        activeOrderIndex.orderStatusesChanged(List.of(statusChange(id, orderStatus)));
+        return true;
+    }
+
     @Override
     public Optional<Order> findById(final Long id) {
         try {
@@ -55,10 +165,68 @@ public class JdbcTemplateOrderDao implements OrderDao {
 
     @Override
     public List<Order> findAll() {
-        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders";
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version FROM orders";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Order> findAllByOrderStatusIn(final List<String> orderStatuses) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version FROM orders" +
+                " WHERE order_status IN (:orderStatuses)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatuses", orderStatuses);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long id, final int limit) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version FROM orders" +
+                " WHERE id > (:id) ORDER BY id LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public ChangeSet<Order> findAllByChangeVersionGreaterThan(final long version, final int limit) {
+        final long watermark = changeVersionWatermark.current();
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version, change_version, FALSE AS archived" +
+                " FROM orders WHERE change_version > (:version) AND change_version <= (:watermark)" +
+                " UNION ALL" +
+                " SELECT id, order_table_id, order_status, ordered_time, version, change_version, TRUE AS archived" +
+                " FROM archived_orders WHERE change_version > (:version) AND change_version <= (:watermark)" +
+                " ORDER BY change_version LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("watermark", watermark)
+                .addValue("limit", limit);
+        final List<Order> entities = new ArrayList<>();
+        final List<Long> archivedIds = new ArrayList<>();
+        final long[] lastVersion = {version};
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            if (resultSet.getBoolean("archived")) {
+                archivedIds.add(resultSet.getLong("id"));
+            } else {
+                entities.add(toEntity(resultSet));
+            }
+            lastVersion[0] = resultSet.getLong("change_version");
+        });
+        if (entities.size() + archivedIds.size() < limit) {
+            lastVersion[0] = Math.max(version, watermark);
+        }
+        return new ChangeSet<>(entities, archivedIds, lastVersion[0]);
+    }
+
+    @Override
+    public void streamAllWithOrderLineItems(final Consumer<Order> consumer) {
+        final String sql = "SELECT o.id, o.order_table_id, o.order_status, o.ordered_time, o.version, l.seq, l.menu_id, l.quantity" +
+                " FROM orders o LEFT JOIN order_line_item l ON l.order_id = o.id ORDER BY o.id, l.seq";
+        final OrderAggregatingRowCallbackHandler handler = new OrderAggregatingRowCallbackHandler(consumer);
+        streamingJdbcTemplate.query(sql, handler);
+        handler.complete();
+    }
+
     @Override
     public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
         final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
@@ -80,18 +248,33 @@ public class JdbcTemplateOrderDao implements OrderDao {
     }
 
     private Order select(final Long id) {
-        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id = (:id)";
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time, version FROM orders WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("id", id);
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private LocalDateTime toColumnPrecision(final LocalDateTime orderedTime) {
+        if (Objects.isNull(orderedTime)) {
+            return null;
+        }
+        return orderedTime.truncatedTo(ChronoUnit.SECONDS);
+    }
+
     private void update(final Order entity) {
-        final String sql = "UPDATE orders SET order_status = (:orderStatus) WHERE id = (:id)";
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)," +
+                " version = version + 1, change_version = NEXT VALUE FOR change_version_seq WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("orderStatus", entity.getOrderStatus())
                 .addValue("id", entity.getId());
-        jdbcTemplate.update(sql, parameters);
+        changeVersionWatermark.write(() -> jdbcTemplate.update(sql, parameters));
+    }
+
+    private Order statusChange(final Long id, final String orderStatus) {
+        final Order entity = new Order();
+        entity.setId(id);
+        entity.setOrderStatus(orderStatus);
+        return entity;
     }
 
     private Order toEntity(final ResultSet resultSet) throws SQLException {
@@ -100,6 +283,43 @@ public class JdbcTemplateOrderDao implements OrderDao {
         entity.setOrderTableId(resultSet.getLong("order_table_id"));
         entity.setOrderStatus(resultSet.getString("order_status"));
         entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        entity.setVersion(resultSet.getLong("version"));
         return entity;
     }
+
+    private class OrderAggregatingRowCallbackHandler implements RowCallbackHandler {
+        private final Consumer<Order> consumer;
+        private Order current;
+
+        private OrderAggregatingRowCallbackHandler(final Consumer<Order> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long id = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != id) {
+                complete();
+                current = toEntity(resultSet);
+                current.setOrderLineItems(new ArrayList<>());
+            }
+            final long seq = resultSet.getLong("seq");
+            if (resultSet.wasNull()) {
+                return;
+            }
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setSeq(seq);
+            orderLineItem.setOrderId(id);
+            orderLineItem.setMenuId(resultSet.getLong("menu_id"));
+            orderLineItem.setQuantity(resultSet.getLong("quantity"));
+            current.getOrderLineItems().add(orderLineItem);
+        }
+
+        private void complete() {
+            if (Objects.nonNull(current)) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
 }
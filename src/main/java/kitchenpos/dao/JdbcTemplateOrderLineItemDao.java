@@ -6,19 +6,25 @@ import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
     private static final String TABLE_NAME = "order_line_item";
     private static final String KEY_COLUMN_NAME = "seq";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +41,26 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
     public OrderLineItem save(final OrderLineItem entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        entity.setSeq(key.longValue());
+        return entity;
+    }
+
+    @Override
+    public List<OrderLineItem> saveAll(final List<OrderLineItem> entities) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        final String sql = "INSERT INTO order_line_item (order_id, menu_id, quantity)" +
+                " VALUES (:orderId, :menuId, :quantity)";
+        final SqlParameterSource[] parameters = SqlParameterSourceUtils.createBatch(entities);
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(sql, parameters, keyHolder, new String[]{KEY_COLUMN_NAME});
+        final List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < entities.size(); i++) {
+            final Number key = (Number) keys.get(i).get(KEY_COLUMN_NAME);
+            entities.get(i).setSeq(key.longValue());
+        }
+        return entities;
     }
 
     @Override
@@ -61,6 +86,19 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)";
+        final List<OrderLineItem> entities = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, orderIds.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("orderIds", orderIds.subList(from, to));
+            entities.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return entities;
+    }
+
     private OrderLineItem select(final Long id) {
         final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -1,5 +1,6 @@
 package kitchenpos.dao;
 
+import kitchenpos.application.dto.ChangeSet;
 import kitchenpos.domain.OrderTable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,11 +25,14 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
+    private final ChangeVersionWatermark changeVersionWatermark;
 
-    public JdbcTemplateOrderTableDao(final DataSource dataSource) {
+    public JdbcTemplateOrderTableDao(final DataSource dataSource, final ChangeVersionWatermark changeVersionWatermark) {
+        this.changeVersionWatermark = changeVersionWatermark;
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
+                .usingColumns("table_group_id", "number_of_guests", "empty")
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
         ;
     }
@@ -36,8 +41,9 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
     public OrderTable save(final OrderTable entity) {
         if (Objects.isNull(entity.getId())) {
             final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            final Number key = changeVersionWatermark.write(() -> jdbcInsert.executeAndReturnKey(parameters));
+            entity.setId(key.longValue());
+            return entity;
         }
         update(entity);
         return entity;
@@ -75,6 +81,42 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public ChangeSet<OrderTable> findAllByChangeVersionGreaterThan(final long version, final int limit) {
+        final long watermark = changeVersionWatermark.current();
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, change_version FROM order_table" +
+                " WHERE change_version > (:version) AND change_version <= (:watermark)" +
+                " ORDER BY change_version LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("watermark", watermark)
+                .addValue("limit", limit);
+        final List<OrderTable> entities = new ArrayList<>();
+        final long[] lastVersion = {version};
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            entities.add(toEntity(resultSet));
+            lastVersion[0] = resultSet.getLong("change_version");
+        });
+        if (entities.size() < limit) {
+            lastVersion[0] = Math.max(version, watermark);
+        }
+        return new ChangeSet<>(entities, lastVersion[0]);
+    }
+
+    @Override
+    public void updateTableGroupIdIn(final List<Long> ids, final Long tableGroupId, final boolean empty) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final String sql = "UPDATE order_table SET table_group_id = (:tableGroupId), empty = (:empty)," +
+                " change_version = NEXT VALUE FOR change_version_seq WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", tableGroupId)
+                .addValue("empty", empty)
+                .addValue("ids", ids);
+        changeVersionWatermark.write(() -> jdbcTemplate.update(sql, parameters));
+    }
+
     private OrderTable select(final Long id) {
         final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -84,13 +126,14 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
 
     private void update(final OrderTable entity) {
         final String sql = "UPDATE order_table SET table_group_id = (:tableGroupId)," +
-                " number_of_guests = (:numberOfGuests), empty = (:empty) WHERE id = (:id)";
+                " number_of_guests = (:numberOfGuests), empty = (:empty)," +
+                " change_version = NEXT VALUE FOR change_version_seq WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("tableGroupId", entity.getTableGroupId())
                 .addValue("numberOfGuests", entity.getNumberOfGuests())
                 .addValue("empty", entity.isEmpty())
                 .addValue("id", entity.getId());
-        jdbcTemplate.update(sql, parameters);
+        changeVersionWatermark.write(() -> jdbcTemplate.update(sql, parameters));
     }
 
     private OrderTable toEntity(final ResultSet resultSet) throws SQLException {
@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Product;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -35,10 +36,12 @@ public class JdbcTemplateProductDao implements ProductDao {
     public Product save(final Product entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        entity.setId(key.longValue());
+        return entity;
     }
 
     @Override
+    @Cacheable(CatalogCaches.PRODUCT)
     public Optional<Product> findById(final Long id) {
         try {
             return Optional.of(select(id));
@@ -48,6 +51,7 @@ public class JdbcTemplateProductDao implements ProductDao {
     }
 
     @Override
+    @Cacheable(CatalogCaches.PRODUCTS)
     public List<Product> findAll() {
         final String sql = "SELECT id, name, price FROM product";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
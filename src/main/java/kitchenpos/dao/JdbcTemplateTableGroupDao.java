@@ -13,7 +13,9 @@ import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -34,9 +36,11 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
 
     @Override
     public TableGroup save(final TableGroup entity) {
+        entity.setCreatedDate(toColumnPrecision(entity.getCreatedDate()));
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        entity.setId(key.longValue());
+        return entity;
     }
 
     @Override
@@ -54,6 +58,13 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private LocalDateTime toColumnPrecision(final LocalDateTime createdDate) {
+        if (Objects.isNull(createdDate)) {
+            return null;
+        }
+        return createdDate.truncatedTo(ChronoUnit.SECONDS);
+    }
+
     private TableGroup select(final Long id) {
         final String sql = "SELECT id, created_date FROM table_group WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -0,0 +1,145 @@
+package kitchenpos.dao;
+
+import java.util.Arrays;
+
+class LongLongHashMap {
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    long get(final long key, final long defaultValue) {
+        final int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    boolean containsKey(final long key) {
+        return find(key) >= 0;
+    }
+
+    boolean putIfAbsent(final long key, final long value) {
+        checkKey(key);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length * MAX_LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    long addTo(final long key, final long delta) {
+        final int slot = find(key);
+        if (slot >= 0) {
+            values[slot] += delta;
+            return values[slot];
+        }
+        putIfAbsent(key, delta);
+        return delta;
+    }
+
+    long remove(final long key, final long defaultValue) {
+        int slot = find(key);
+        if (slot < 0) {
+            return defaultValue;
+        }
+        final long removed = values[slot];
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (keys[next] == EMPTY_KEY) {
+                break;
+            }
+            final int home = slotOf(keys[next]);
+            final boolean inRange = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!inRange) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        keys[slot] = EMPTY_KEY;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    LongLongHashMap copy() {
+        final LongLongHashMap copied = new LongLongHashMap();
+        copied.keys = keys.clone();
+        copied.values = values.clone();
+        copied.mask = mask;
+        copied.size = size;
+        return copied;
+    }
+
+    void forEach(final EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int find(final long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotOf(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                putIfAbsent(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private void checkKey(final long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -13,4 +13,6 @@ public interface MenuProductDao {
     List<MenuProduct> findAll();
 
     List<MenuProduct> findAllByMenuId(Long menuId);
+
+    List<MenuProduct> findAllByMenuIdIn(List<Long> menuIds);
 }
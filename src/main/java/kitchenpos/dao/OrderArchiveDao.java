@@ -0,0 +1,17 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveDao {
+    List<Long> findArchivableOrderIds(LocalDateTime orderedBefore, int limit);
+
+    int archive(List<Long> orderIds, LocalDateTime archivedTime);
+
+    List<Order> findAllByIdGreaterThan(Long id, int limit);
+
+    List<OrderLineItem> findAllOrderLineItemsByOrderIdIn(List<Long> orderIds);
+}
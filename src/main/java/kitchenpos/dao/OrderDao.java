@@ -1,17 +1,35 @@
 package kitchenpos.dao;
 
+import kitchenpos.application.dto.ChangeSet;
 import kitchenpos.domain.Order;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderDao {
     Order save(Order entity);
 
+    List<Order> saveAll(List<Order> entities);
+
+    List<Long> compareAndSetOrderStatusAll(List<Order> entities);
+
+    Optional<Long> updateOrderStatusIfNotCompleted(Long id, String orderStatus);
+
+    boolean compareAndSetOrderStatus(Long id, long version, String orderStatus);
+
     Optional<Order> findById(Long id);
 
     List<Order> findAll();
 
+    List<Order> findAllByOrderStatusIn(List<String> orderStatuses);
+
+    List<Order> findAllByIdGreaterThan(Long id, int limit);
+
+    ChangeSet<Order> findAllByChangeVersionGreaterThan(long version, int limit);
+
+    void streamAllWithOrderLineItems(Consumer<Order> consumer);
+
     boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
 
     boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
@@ -1,5 +1,6 @@
 package kitchenpos.dao;
 
+import kitchenpos.application.dto.ChangeSet;
 import kitchenpos.domain.OrderTable;
 
 import java.util.List;
@@ -15,4 +16,8 @@ public interface OrderTableDao {
     List<OrderTable> findAllByIdIn(List<Long> ids);
 
     List<OrderTable> findAllByTableGroupId(Long tableGroupId);
+
+    ChangeSet<OrderTable> findAllByChangeVersionGreaterThan(long version, int limit);
+
+    void updateTableGroupIdIn(List<Long> ids, Long tableGroupId, boolean empty);
 }
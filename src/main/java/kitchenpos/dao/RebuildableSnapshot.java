@@ -0,0 +1,129 @@
+package kitchenpos.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class RebuildableSnapshot<S, R> {
+    private final Supplier<S> loader;
+    private final BiFunction<S, Long, R> snapshotter;
+    private final Predicate<S> stale;
+    private final Supplier<Consumer<S>> pendingChanges;
+    private volatile R snapshot;
+    private S state;
+    private List<Consumer<S>> changesDuringRebuild;
+    private long generation;
+    private long version;
+
+    public RebuildableSnapshot(final Supplier<S> loader, final BiFunction<S, Long, R> snapshotter) {
+        this(loader, snapshotter, state -> false, () -> state -> {
+        });
+    }
+
+    public RebuildableSnapshot(
+            final Supplier<S> loader,
+            final BiFunction<S, Long, R> snapshotter,
+            final Predicate<S> stale,
+            final Supplier<Consumer<S>> pendingChanges
+    ) {
+        this.loader = loader;
+        this.snapshotter = snapshotter;
+        this.stale = stale;
+        this.pendingChanges = pendingChanges;
+    }
+
+    public R get() {
+        return snapshot;
+    }
+
+    public R current() {
+        final R current = snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        rebuild();
+        final R rebuilt = snapshot;
+        if (Objects.nonNull(rebuilt)) {
+            return rebuilt;
+        }
+        final S loaded = loader.get();
+        pendingChanges.get().accept(loaded);
+        synchronized (this) {
+            return snapshotter.apply(loaded, version);
+        }
+    }
+
+    public synchronized <T> T read(final BiFunction<S, Long, T> reader) {
+        if (Objects.isNull(state)) {
+            return null;
+        }
+        return reader.apply(state, version);
+    }
+
+    public synchronized void apply(final Consumer<S> change) {
+        if (Objects.nonNull(state)) {
+            change.accept(state);
+            if (stale.test(state)) {
+                state = null;
+                snapshot = null;
+            } else {
+                snapshot = snapshotter.apply(state, ++version);
+            }
+        }
+        if (Objects.nonNull(changesDuringRebuild)) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    public synchronized void invalidate() {
+        state = null;
+        snapshot = null;
+        changesDuringRebuild = null;
+        generation++;
+    }
+
+    public void rebuild() {
+        final long rebuildGeneration;
+        synchronized (this) {
+            if (Objects.nonNull(changesDuringRebuild)) {
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+            rebuildGeneration = generation;
+        }
+
+        final S rebuilt;
+        try {
+            final Consumer<S> pending = pendingChanges.get();
+            synchronized (this) {
+                if (generation == rebuildGeneration) {
+                    changesDuringRebuild.add(0, pending);
+                }
+            }
+            rebuilt = loader.get();
+        } catch (final RuntimeException e) {
+            synchronized (this) {
+                if (generation == rebuildGeneration) {
+                    changesDuringRebuild = null;
+                }
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (generation != rebuildGeneration) {
+                return;
+            }
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            if (!stale.test(rebuilt)) {
+                state = rebuilt;
+                snapshot = snapshotter.apply(state, ++version);
+            }
+        }
+    }
+}
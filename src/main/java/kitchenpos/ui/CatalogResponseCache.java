@@ -0,0 +1,152 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.CatalogVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class CatalogResponseCache {
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final Map<String, CachedBody> cachedBodies = new ConcurrentHashMap<>();
+
+    public CatalogResponseCache(
+            final CatalogVersion catalogVersion,
+            final ObjectMapper objectMapper,
+            @Value("${kitchenpos.catalog.response-cache.gzip.enabled:true}") final boolean gzipEnabled
+    ) {
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    public ResponseEntity<byte[]> get(
+            final String key,
+            final String ifNoneMatch,
+            final String acceptEncoding,
+            final Supplier<?> loader
+    ) {
+        final long version = catalogVersion.current();
+        final boolean gzip = gzipEnabled && acceptsGzip(acceptEncoding);
+        final String eTag = "\"" + key + "-" + version + (gzip ? "-gzip" : "") + "\"";
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build()
+                    ;
+        }
+
+        CachedBody cachedBody = cachedBodies.get(key);
+        if (Objects.isNull(cachedBody) || cachedBody.version != version) {
+            cachedBody = new CachedBody(version, serialize(loader.get()));
+            if (catalogVersion.current() == version) {
+                cachedBodies.put(key, cachedBody);
+            }
+        }
+        if (gzip) {
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(cachedBody.gzipBody())
+                    ;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cachedBody.body)
+                ;
+    }
+
+    public void evict() {
+        cachedBodies.clear();
+    }
+
+    private boolean acceptsGzip(final String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (final String candidate : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+            final String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(final String ifNoneMatch, final String eTag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (final String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+            final String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] serialize(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class CachedBody {
+        private final long version;
+        private final byte[] body;
+        private volatile byte[] gzipBody;
+
+        private CachedBody(final long version, final byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+
+        private byte[] gzipBody() {
+            byte[] compressed = gzipBody;
+            if (Objects.isNull(compressed)) {
+                compressed = compress(body);
+                gzipBody = compressed;
+            }
+            return compressed;
+        }
+
+        private static byte[] compress(final byte[] body) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(body);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+}
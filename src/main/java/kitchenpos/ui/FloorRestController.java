@@ -0,0 +1,23 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.FloorStateView;
+import kitchenpos.application.dto.FloorState;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class FloorRestController {
+    private final FloorStateView floorStateView;
+
+    public FloorRestController(final FloorStateView floorStateView) {
+        this.floorStateView = floorStateView;
+    }
+
+    @GetMapping("/api/floor")
+    public ResponseEntity<FloorState> current() {
+        return ResponseEntity.ok()
+                .body(floorStateView.current())
+                ;
+    }
+}
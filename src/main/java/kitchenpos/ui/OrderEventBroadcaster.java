@@ -0,0 +1,230 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class OrderEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+    private static final String RESET_EVENT_NAME = "RESET";
+    private static final String EVENT_ID_DELIMITER = "-";
+
+    private final ThreadPoolTaskExecutor senderExecutor;
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private final long timeoutMillis;
+    private final long epoch = System.currentTimeMillis();
+    private final Queue<Entry> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastSequence;
+
+    public OrderEventBroadcaster(
+            @Value("${kitchenpos.order.events.history-size:1000}") final int historySize,
+            @Value("${kitchenpos.order.events.subscriber-buffer-size:256}") final int subscriberBufferSize,
+            @Value("${kitchenpos.order.events.timeout:30m}") final Duration timeout,
+            @Value("${kitchenpos.order.events.sender-threads:4}") final int senderThreads,
+            @Value("${kitchenpos.order.events.sender-queue-capacity:1000}") final int senderQueueCapacity
+    ) {
+        if (senderThreads <= 0 || senderQueueCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.senderExecutor = new ThreadPoolTaskExecutor();
+        senderExecutor.setCorePoolSize(senderThreads);
+        senderExecutor.setMaxPoolSize(senderThreads);
+        senderExecutor.setQueueCapacity(senderQueueCapacity);
+        senderExecutor.setThreadNamePrefix("order-events-");
+        senderExecutor.initialize();
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe(final String lastEventId) {
+        final Subscriber subscriber = new Subscriber(createEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        final Long resumeAfterSequence = sequenceOf(lastEventId);
+        synchronized (history) {
+            if (Objects.isNull(resumeAfterSequence)) {
+                subscriber.resetSequence = lastSequence;
+            } else {
+                replay(subscriber, resumeAfterSequence);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.scheduleDrain();
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(final OrderChangedEvent event) {
+        synchronized (history) {
+            final Entry entry = new Entry(++lastSequence, event);
+            history.add(entry);
+            if (history.size() > historySize) {
+                history.poll();
+            }
+            for (final Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        }
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.scheduleDrain();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdown();
+    }
+
+    SseEmitter createEmitter(final long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    void execute(final Runnable task) {
+        senderExecutor.execute(task);
+    }
+
+    private void replay(final Subscriber subscriber, final long resumeAfterSequence) {
+        final Entry oldest = history.peek();
+        final long oldestRetainedSequence = Objects.isNull(oldest) ? lastSequence + 1 : oldest.sequence;
+        if (resumeAfterSequence > lastSequence || resumeAfterSequence < oldestRetainedSequence - 1) {
+            subscriber.resetSequence = lastSequence;
+            return;
+        }
+        final List<Entry> missed = new ArrayList<>();
+        for (final Entry entry : history) {
+            if (entry.sequence > resumeAfterSequence) {
+                missed.add(entry);
+            }
+        }
+        if (missed.size() > subscriberBufferSize) {
+            subscriber.resetSequence = lastSequence;
+            return;
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    private Long sequenceOf(final String eventId) {
+        if (Objects.isNull(eventId)) {
+            return null;
+        }
+        final String[] parts = eventId.split(EVENT_ID_DELIMITER, -1);
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(parts[0]) != epoch) {
+                return null;
+            }
+            return Long.parseLong(parts[1]);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventIdOf(final long sequence) {
+        return epoch + EVENT_ID_DELIMITER + sequence;
+    }
+
+    private static class Entry {
+        private final long sequence;
+        private final OrderChangedEvent event;
+
+        private Entry(final long sequence, final OrderChangedEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Entry> buffer = new ArrayBlockingQueue<>(subscriberBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile Long resetSequence;
+        private volatile boolean overflowed;
+
+        private Subscriber(final SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(final Entry entry) {
+            if (!buffer.offer(entry)) {
+                overflowed = true;
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                execute(this::drain);
+            } catch (final TaskRejectedException e) {
+                log.warn("disconnecting order event subscriber, sender queue is full", e);
+                subscribers.remove(this);
+                draining.set(false);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                final Long resetSequence = this.resetSequence;
+                if (Objects.nonNull(resetSequence)) {
+                    this.resetSequence = null;
+                    final String resetEventId = eventIdOf(resetSequence);
+                    emitter.send(SseEmitter.event()
+                            .id(resetEventId)
+                            .name(RESET_EVENT_NAME)
+                            .data(resetEventId));
+                }
+                Entry entry;
+                while (!overflowed && Objects.nonNull(entry = buffer.poll())) {
+                    emitter.send(SseEmitter.event()
+                            .id(eventIdOf(entry.sequence))
+                            .name(entry.event.getType().name())
+                            .data(entry.event, MediaType.APPLICATION_JSON));
+                }
+                if (overflowed) {
+                    subscribers.remove(this);
+                    emitter.complete();
+                    return;
+                }
+            } catch (final IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty() || overflowed) {
+                scheduleDrain();
+            }
+        }
+    }
+}
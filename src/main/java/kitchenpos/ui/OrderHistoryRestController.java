@@ -0,0 +1,29 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderArchiveService;
+import kitchenpos.domain.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class OrderHistoryRestController {
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderHistoryRestController(final OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @GetMapping("/api/orders/history")
+    public ResponseEntity<List<Order>> list(
+            @RequestParam(required = false) final Long afterId,
+            @RequestParam final int limit
+    ) {
+        return ResponseEntity.ok()
+                .body(orderArchiveService.listHistory(afterId, limit))
+                ;
+    }
+}
@@ -1,19 +1,52 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kitchenpos.application.OrderBulkService;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.application.dto.OrderBulkResult;
+import kitchenpos.application.dto.OrderStatusSummary;
 import kitchenpos.domain.Order;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
 
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderBulkService orderBulkService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter orderWriter;
+    private final ObjectWriter bulkResultWriter;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final OrderBulkService orderBulkService,
+            final OrderEventBroadcaster orderEventBroadcaster,
+            final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderBulkService = orderBulkService;
+        this.orderEventBroadcaster = orderEventBroadcaster;
+        this.objectMapper = objectMapper;
+        this.orderWriter = objectMapper.writerFor(Order.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.bulkResultWriter = objectMapper.writerFor(OrderBulkResult.class);
     }
 
     @PostMapping("/api/orders")
@@ -25,6 +58,26 @@ public class OrderRestController {
                 ;
     }
 
+    @PostMapping(value = "/api/orders/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createInBulk(@RequestBody final List<Order> orders) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> writeBulkResults(orders.iterator(), outputStream))
+                ;
+    }
+
+    @PostMapping(value = "/api/orders/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createInBulkFromNdjson(final InputStream inputStream) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    try (final MappingIterator<Order> orders = objectMapper.readerFor(Order.class).readValues(inputStream)) {
+                        writeBulkResults(orders, outputStream);
+                    }
+                })
+                ;
+    }
+
     @GetMapping("/api/orders")
     public ResponseEntity<List<Order>> list() {
         return ResponseEntity.ok()
@@ -32,6 +85,36 @@ public class OrderRestController {
                 ;
     }
 
+    @GetMapping(value = "/api/orders", params = {"limit", "!since"})
+    public ResponseEntity<List<Order>> list(
+            @RequestParam(required = false) final Long afterId,
+            @RequestParam final int limit
+    ) {
+        return ResponseEntity.ok()
+                .body(orderService.list(afterId, limit))
+                ;
+    }
+
+    @GetMapping(value = "/api/orders", params = "since")
+    public ResponseEntity<ChangeSet<Order>> listChangedSince(@RequestParam final long since) {
+        return ResponseEntity.ok()
+                .body(orderService.listChangedSince(since))
+                ;
+    }
+
+    @GetMapping("/api/orders/stream")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(this::writeAllOrders)
+                ;
+    }
+
+    @GetMapping(value = "/api/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId) {
+        return orderEventBroadcaster.subscribe(lastEventId);
+    }
+
     @PutMapping("/api/orders/{orderId}/order-status")
     public ResponseEntity<Order> changeOrderStatus(
             @PathVariable final Long orderId,
@@ -39,4 +122,41 @@ public class OrderRestController {
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, order));
     }
+
+    @PutMapping(value = "/api/orders/{orderId}/order-status", params = "view=summary")
+    public ResponseEntity<OrderStatusSummary> changeOrderStatusSummary(
+            @PathVariable final Long orderId,
+            @RequestBody final Order order
+    ) {
+        return ResponseEntity.ok(orderService.changeOrderStatusSummary(orderId, order));
+    }
+
+    private void writeBulkResults(final Iterator<Order> orders, final OutputStream outputStream) {
+        orderBulkService.create(orders, results -> {
+            try {
+                for (final OrderBulkResult result : results) {
+                    outputStream.write(bulkResultWriter.writeValueAsBytes(result));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeAllOrders(final OutputStream outputStream) throws IOException {
+        try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            orderService.streamAll(order -> {
+                try {
+                    orderWriter.writeValue(generator, order);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
 }
@@ -2,21 +2,24 @@ package kitchenpos.ui;
 
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(final ProductService productService, final CatalogResponseCache catalogResponseCache) {
         this.productService = productService;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     @PostMapping("/api/products")
@@ -29,9 +32,10 @@ public class ProductRestController {
     }
 
     @GetMapping("/api/products")
-    public ResponseEntity<List<Product>> list() {
-        return ResponseEntity.ok()
-                .body(productService.list())
-                ;
+    public ResponseEntity<byte[]> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        return catalogResponseCache.get("products", ifNoneMatch, acceptEncoding, productService::list);
     }
 }
@@ -1,6 +1,7 @@
 package kitchenpos.ui;
 
 import kitchenpos.application.TableService;
+import kitchenpos.application.dto.ChangeSet;
 import kitchenpos.domain.OrderTable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,6 +33,13 @@ public class TableRestController {
                 ;
     }
 
+    @GetMapping(value = "/api/tables", params = "since")
+    public ResponseEntity<ChangeSet<OrderTable>> listChangedSince(@RequestParam final long since) {
+        return ResponseEntity.ok()
+                .body(tableService.listChangedSince(since))
+                ;
+    }
+
     @PutMapping("/api/tables/{orderTableId}/empty")
     public ResponseEntity<OrderTable> changeEmpty(
             @PathVariable final Long orderTableId,
@@ -0,0 +1,13 @@
+create sequence change_version_seq;
+
+alter table orders
+    add column change_version bigint default next value for change_version_seq not null;
+
+alter table order_table
+    add column change_version bigint default next value for change_version_seq not null;
+
+create index ix_orders_change_version
+    on orders (change_version);
+
+create index ix_order_table_change_version
+    on order_table (change_version);
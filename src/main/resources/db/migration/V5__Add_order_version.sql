@@ -0,0 +1,2 @@
+alter table orders
+    add column version bigint default 0 not null;
@@ -0,0 +1,30 @@
+create table archived_orders
+(
+    id             bigint       not null,
+    order_status   varchar(255) not null,
+    ordered_time   datetime     not null,
+    order_table_id bigint       not null,
+    version        bigint       not null,
+    archived_time  datetime     not null,
+    primary key (id)
+);
+
+create table archived_order_line_item
+(
+    seq      bigint not null,
+    quantity bigint not null,
+    menu_id  bigint not null,
+    order_id bigint not null,
+    primary key (seq)
+);
+
+alter table archived_order_line_item
+    add constraint fk_archived_order_line_item_to_archived_orders
+        foreign key (order_id)
+            references archived_orders (id);
+
+create index ix_archived_order_line_item_order_id
+    on archived_order_line_item (order_id, menu_id, quantity);
+
+create index ix_orders_order_status_ordered_time
+    on orders (order_status, ordered_time);
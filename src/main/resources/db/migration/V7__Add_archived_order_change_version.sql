@@ -0,0 +1,5 @@
+alter table archived_orders
+    add column change_version bigint default next value for change_version_seq not null;
+
+create index ix_archived_orders_change_version
+    on archived_orders (change_version);
@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.TableFixture.주문_테이블;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import kitchenpos.application.dto.FloorState;
+import kitchenpos.application.dto.FloorTable;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FloorStateViewTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private FloorStateView floorStateView;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private TableGroupService tableGroupService;
+    @Autowired
+    private OrderFactory orderFactory;
+
+    @Test
+    @DisplayName("table과 order 변경이 floor 상태에 바로 반영된다.")
+    void reflectTableAndOrderChanges() {
+        //given
+        final OrderTable orderTable = 주문_테이블();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = tableService.create(orderTable);
+        final FloorState initialState = floorStateView.current();
+
+        //when
+        savedOrderTable.setNumberOfGuests(4);
+        tableService.changeNumberOfGuests(savedOrderTable.getId(), savedOrderTable);
+        orderFactory.createOrder(savedOrderTable);
+        final FloorState orderedState = floorStateView.current();
+
+        //then
+        assertThat(orderedState.getVersion()).isGreaterThan(initialState.getVersion());
+        assertThat(initialState.getTables())
+            .extracting(FloorTable::getId, FloorTable::getNumberOfGuests, FloorTable::isOpenOrder)
+            .containsExactly(tuple(savedOrderTable.getId(), 0, false));
+        assertThat(orderedState.getTables())
+            .extracting(FloorTable::getId, FloorTable::getNumberOfGuests, FloorTable::isOpenOrder)
+            .containsExactly(tuple(savedOrderTable.getId(), 4, true));
+    }
+
+    @Test
+    @DisplayName("order가 completion이 되면 열린 order가 없는 table이 된다.")
+    void removeCompletedOrder() {
+        //given
+        final OrderTable orderTable = 주문_테이블();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = tableService.create(orderTable);
+        final Order savedOrder = orderFactory.createOrder(savedOrderTable);
+        floorStateView.current();
+
+        //when
+        savedOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderService.changeOrderStatus(savedOrder.getId(), savedOrder);
+
+        //then
+        assertThat(floorStateView.current().getTables())
+            .extracting(FloorTable::isOpenOrder)
+            .containsExactly(false);
+    }
+
+    @Test
+    @DisplayName("table group 생성과 해제가 floor 상태에 반영된다.")
+    void reflectTableGroupChanges() {
+        //given
+        final OrderTable orderTable = tableService.create(주문_테이블());
+        final OrderTable orderTable2 = tableService.create(주문_테이블());
+        floorStateView.current();
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(List.of(orderTable, orderTable2));
+
+        //when
+        final TableGroup savedTableGroup = tableGroupService.create(tableGroup);
+        final FloorState groupedState = floorStateView.current();
+        tableGroupService.ungroup(savedTableGroup.getId());
+        final FloorState ungroupedState = floorStateView.current();
+
+        //then
+        assertThat(groupedState.getTables())
+            .extracting(FloorTable::getTableGroupId, FloorTable::isEmpty)
+            .containsExactly(tuple(savedTableGroup.getId(), false), tuple(savedTableGroup.getId(), false));
+        assertThat(ungroupedState.getTables())
+            .extracting(FloorTable::getTableGroupId, FloorTable::isEmpty)
+            .containsExactly(tuple(null, false), tuple(null, false));
+    }
+}
@@ -16,6 +16,8 @@ class MenuGroupServiceTest extends ServiceIntegrationTest {
 
     @Autowired
     private MenuGroupService menuGroupService;
+    @Autowired
+    private CatalogVersion catalogVersion;
 
     @Test
     @DisplayName("menuGroup을 생성하는 기능")
@@ -33,6 +35,19 @@ class MenuGroupServiceTest extends ServiceIntegrationTest {
             .contains(savedMenuGroup);
     }
 
+    @Test
+    @DisplayName("menuGroup을 생성하면 catalog version이 바뀐다.")
+    void changeCatalogVersionWhenCreated() {
+        //given
+        final long version = catalogVersion.current();
+
+        //when
+        menuGroupService.create(신메뉴());
+
+        //then
+        assertThat(catalogVersion.current()).isGreaterThan(version);
+    }
+
     @Test
     @DisplayName("menuGroup 전체를 조회하는 기능")
     void list() {
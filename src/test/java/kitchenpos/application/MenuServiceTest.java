@@ -148,4 +148,43 @@ class MenuServiceTest extends ServiceIntegrationTest {
                 .isEqualByComparingTo(savedMenu.getPrice())
         );
     }
+
+    @Test
+    @DisplayName("여러 menu를 조회할 때 각 menu의 menuProduct를 함께 조회한다.")
+    void listWithMenuProductsOfEachMenu() {
+        final Product savedProduct = productService.create(후라이드());
+        final MenuGroup savedMenuGroup = menuGroupService.create(MenuFixture.한마리메뉴());
+        final Menu savedMenu = menuService.create(
+            후라이드치킨(savedMenuGroup, List.of(MenuFixture.createMenuProduct(savedProduct, 1L))));
+        final Menu savedMenu2 = menuService.create(
+            후라이드치킨(savedMenuGroup, List.of(MenuFixture.createMenuProduct(savedProduct, 2L))));
+
+        //when
+        final List<Menu> menus = menuService.list();
+
+        assertThat(menus)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("price")
+            .containsExactly(savedMenu, savedMenu2);
+    }
+
+    @Test
+    @DisplayName("조회한 menu를 바꿔도 cache에 있는 menu는 바뀌지 않는다.")
+    void notChangeCachedMenuWhenReturnedMenuChanged() {
+        final Product savedProduct = productService.create(후라이드());
+        final MenuGroup savedMenuGroup = menuGroupService.create(MenuFixture.한마리메뉴());
+        final Menu savedMenu = menuService.create(
+            후라이드치킨(savedMenuGroup, List.of(MenuFixture.createMenuProduct(savedProduct, 1L))));
+        final List<Menu> menus = menuService.list();
+
+        //when
+        menus.get(0).setName("changed");
+        menus.get(0).getMenuProducts().get(0).setQuantity(100L);
+
+        //then
+        final Menu cachedMenu = menuService.list().get(0);
+        assertAll(
+            () -> assertThat(cachedMenu.getName()).isEqualTo(savedMenu.getName()),
+            () -> assertThat(cachedMenu.getMenuProducts().get(0).getQuantity()).isEqualTo(1L)
+        );
+    }
 }
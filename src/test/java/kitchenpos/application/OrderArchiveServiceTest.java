@@ -0,0 +1,147 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.OrderFixture.createOrderLineItem;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.dao.OrderArchiveDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OrderArchiveServiceTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderDao orderDao;
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+    @Autowired
+    private OrderArchiveDao orderArchiveDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OrderFactory orderFactory;
+
+    @Test
+    @DisplayName("오래된 completion order만 이력으로 옮긴다.")
+    void archiveOldCompletedOrders() {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final LocalDateTime now = LocalDateTime.now();
+        final Order oldCompletedOrder = saveOrder(orderTable, menu, OrderStatus.COMPLETION, now.minusDays(10));
+        final Order oldMealOrder = saveOrder(orderTable, menu, OrderStatus.MEAL, now.minusDays(10));
+        final Order recentCompletedOrder = saveOrder(orderTable, menu, OrderStatus.COMPLETION, now);
+
+        //when
+        final int archived = orderArchiveService.archiveOrderedBefore(now.minusDays(7));
+
+        //then
+        assertThat(archived).isEqualTo(1);
+        assertThat(orderService.list())
+            .extracting(Order::getId)
+            .containsExactly(oldMealOrder.getId(), recentCompletedOrder.getId());
+        assertThat(orderLineItemDao.findAllByOrderId(oldCompletedOrder.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이력으로 옮긴 order를 order line item과 함께 조회한다.")
+    void listHistory() {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final LocalDateTime orderedTime = LocalDateTime.now().minusDays(10);
+        final Order savedOrder = saveOrder(orderTable, menu, OrderStatus.COMPLETION, orderedTime);
+        orderArchiveService.archiveOrderedBefore(LocalDateTime.now().minusDays(7));
+
+        //when
+        final List<Order> history = orderArchiveService.listHistory(null, 10);
+
+        //then
+        assertThat(history)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("orderedTime", "orderLineItems.seq")
+            .containsExactly(savedOrder);
+    }
+
+    @Test
+    @DisplayName("이력으로 옮긴 order의 상태는 바꿀 수 없다.")
+    void throwExceptionChangeArchivedOrderStatus() {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final Order savedOrder = saveOrder(orderTable, menu, OrderStatus.COMPLETION, LocalDateTime.now().minusDays(10));
+        orderArchiveService.archiveOrderedBefore(LocalDateTime.now().minusDays(7));
+
+        savedOrder.setOrderStatus(OrderStatus.MEAL.name());
+
+        //when, then
+        assertThatThrownBy(() -> orderService.changeOrderStatus(savedOrder.getId(), savedOrder))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("이력으로 옮긴 order는 변경분 조회에서 지워진 id로 나온다.")
+    void listArchivedOrderAsRemovedId() {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final Order savedOrder = saveOrder(orderTable, menu, OrderStatus.COMPLETION, LocalDateTime.now().minusDays(10));
+        final ChangeSet<Order> firstChangeSet = orderService.listChangedSince(0L);
+
+        //when
+        orderArchiveService.archiveOrderedBefore(LocalDateTime.now().minusDays(7));
+        final ChangeSet<Order> changeSet = orderService.listChangedSince(firstChangeSet.getVersion());
+
+        //then
+        assertThat(firstChangeSet.getItems())
+            .extracting(Order::getId)
+            .containsExactly(savedOrder.getId());
+        assertThat(firstChangeSet.getRemovedIds()).isEmpty();
+        assertThat(changeSet.getItems()).isEmpty();
+        assertThat(changeSet.getRemovedIds()).containsExactly(savedOrder.getId());
+        assertThat(changeSet.getVersion()).isGreaterThan(firstChangeSet.getVersion());
+    }
+
+    @Test
+    @DisplayName("chunk size가 0 이하인 경우 예외처리")
+    void throwExceptionChunkSizeIsNotPositive() {
+        assertThatThrownBy(
+            () -> new OrderArchiveService(orderArchiveDao, transactionManager, Duration.ofDays(7), 0)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order saveOrder(
+        final OrderTable orderTable,
+        final Menu menu,
+        final OrderStatus orderStatus,
+        final LocalDateTime orderedTime
+    ) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderStatus(orderStatus.name());
+        order.setOrderedTime(orderedTime);
+        final Order savedOrder = orderDao.save(order);
+
+        final OrderLineItem orderLineItem = createOrderLineItem(menu.getId(), 1L);
+        orderLineItem.setOrderId(savedOrder.getId());
+        savedOrder.setOrderLineItems(List.of(orderLineItemDao.save(orderLineItem)));
+        return savedOrder;
+    }
+}
@@ -0,0 +1,88 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.OrderFixture.createOrderLineItem;
+import static kitchenpos.fixture.TableFixture.주문_테이블;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import kitchenpos.application.dto.OrderBulkResult;
+import kitchenpos.application.dto.OrderBulkResult.RejectReason;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OrderBulkServiceTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private OrderBulkService orderBulkService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private OrderFactory orderFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("여러 order를 한 번에 생성하고, 생성할 수 없는 order는 건너뛴다.")
+    void create() {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable savedOrderTable = orderFactory.createOrderTable();
+        final OrderTable emptyOrderTable = tableService.create(주문_테이블());
+
+        final Order order = createOrder(savedOrderTable.getId(), menu.getId());
+        final Order orderOfEmptyTable = createOrder(emptyOrderTable.getId(), menu.getId());
+        final Order orderOfUnknownMenu = createOrder(savedOrderTable.getId(), menu.getId() + 1);
+        final Order order2 = createOrder(savedOrderTable.getId(), menu.getId());
+
+        //when
+        final List<OrderBulkResult> results = orderBulkService.create(
+            List.of(order, orderOfEmptyTable, orderOfUnknownMenu, order2).iterator());
+
+        //then
+        assertThat(results)
+            .extracting(
+                OrderBulkResult::getIndex,
+                OrderBulkResult::isCreated,
+                OrderBulkResult::getOrderId,
+                OrderBulkResult::getRejectReason
+            )
+            .containsExactly(
+                tuple(0, true, order.getId(), null),
+                tuple(1, false, null, RejectReason.EMPTY_ORDER_TABLE),
+                tuple(2, false, null, RejectReason.UNKNOWN_MENU),
+                tuple(3, true, order2.getId(), null)
+            );
+        assertThat(orderService.list())
+            .extracting(Order::getId, Order::getOrderStatus)
+            .containsExactly(
+                tuple(order.getId(), OrderStatus.COOKING.name()),
+                tuple(order2.getId(), OrderStatus.COOKING.name())
+            );
+    }
+
+    @Test
+    @DisplayName("chunk-size가 0 이하이면 생성할 수 없다.")
+    void throwExceptionChunkSizeIsNotPositive() {
+        assertThatThrownBy(
+            () -> new OrderBulkService(null, null, null, null, transactionManager, null, 0)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order createOrder(final Long orderTableId, final Long menuId) {
+        final Order order = new Order();
+        order.setOrderLineItems(List.of(createOrderLineItem(menuId, 1L)));
+        order.setOrderTableId(orderTableId);
+        return order;
+    }
+}
@@ -1,42 +1,47 @@
 package kitchenpos.application;
 
-import static kitchenpos.fixture.MenuFixture.후라이드치킨;
 import static kitchenpos.fixture.OrderFixture.createOrderLineItem;
-import static kitchenpos.fixture.ProductFixture.후라이드;
 import static kitchenpos.fixture.TableFixture.주문_테이블;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.application.dto.OrderStatusSummary;
+import kitchenpos.config.SqlStatementCounter;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.domain.Menu;
-import kitchenpos.domain.MenuGroup;
-import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
-import kitchenpos.domain.Product;
-import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.OrderFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
+@RecordApplicationEvents
 class OrderServiceTest extends ServiceIntegrationTest {
 
     @Autowired
     private OrderService orderService;
     @Autowired
-    private MenuService menuService;
-    @Autowired
     private TableService tableService;
     @Autowired
-    private ProductService productService;
+    private OrderDao orderDao;
     @Autowired
-    private MenuGroupService menuGroupService;
+    private ApplicationEvents applicationEvents;
     @Autowired
-    private OrderDao orderDao;
+    private OrderFactory orderFactory;
 
     @Nested
     @DisplayName("order를 생성한다.")
@@ -46,9 +51,9 @@ class OrderServiceTest extends ServiceIntegrationTest {
         @DisplayName("order를 성공적으로 생성한다.")
         void success() {
             //given
-            final Menu menu = createMenu();
+            final Menu menu = orderFactory.createMenu();
             final OrderLineItem orderLineItem = createOrderLineItem(menu.getId(), 1L);
-            final OrderTable savedOrderTable = createOrderTable();
+            final OrderTable savedOrderTable = orderFactory.createOrderTable();
 
             final Order order = new Order();
             order.setOrderLineItems(List.of(orderLineItem));
@@ -64,13 +69,88 @@ class OrderServiceTest extends ServiceIntegrationTest {
                 .isEqualTo(order);
         }
 
+        @Test
+        @DisplayName("저장한 order의 orderedTime은 DB에서 다시 읽은 값과 같다.")
+        void orderedTimeEqualsStoredValue() {
+            //given
+            final Menu menu = orderFactory.createMenu();
+            final OrderTable savedOrderTable = orderFactory.createOrderTable();
+
+            final Order order = new Order();
+            order.setOrderLineItems(List.of(createOrderLineItem(menu.getId(), 1L)));
+            order.setOrderTableId(savedOrderTable.getId());
+
+            //when
+            final Order savedOrder = orderService.create(order);
+
+            //then
+            final Order foundOrder = orderDao.findById(savedOrder.getId())
+                .orElseThrow(RuntimeException::new);
+            assertThat(savedOrder.getOrderedTime()).isEqualTo(foundOrder.getOrderedTime());
+        }
+
+        @Test
+        @DisplayName("여러 개의 orderLineItem을 한 번에 저장한다.")
+        void successWithMultipleOrderLineItems() {
+            //given
+            final Menu menu = orderFactory.createMenu();
+            final Menu menu2 = orderFactory.createMenu();
+            final OrderTable savedOrderTable = orderFactory.createOrderTable();
+
+            final Order order = new Order();
+            order.setOrderLineItems(List.of(
+                createOrderLineItem(menu.getId(), 1L),
+                createOrderLineItem(menu2.getId(), 2L)
+            ));
+            order.setOrderTableId(savedOrderTable.getId());
+
+            //when
+            final Order savedOrder = orderService.create(order);
+
+            //then
+            assertThat(savedOrder.getOrderLineItems())
+                .extracting(OrderLineItem::getOrderId, OrderLineItem::getMenuId, OrderLineItem::getQuantity)
+                .containsExactly(
+                    tuple(savedOrder.getId(), menu.getId(), 1L),
+                    tuple(savedOrder.getId(), menu2.getId(), 2L)
+                );
+            assertThat(savedOrder.getOrderLineItems())
+                .extracting(OrderLineItem::getSeq)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("메뉴 id 목록을 읽어둔 뒤에 생성된 menu로도 order를 생성한다.")
+        void successWithMenuCreatedAfterIndexLoaded() {
+            //given
+            final OrderTable savedOrderTable = orderFactory.createOrderTable();
+            final Order order = new Order();
+            order.setOrderLineItems(List.of(createOrderLineItem(orderFactory.createMenu().getId(), 1L)));
+            order.setOrderTableId(savedOrderTable.getId());
+            orderService.create(order);
+
+            final Menu newMenu = orderFactory.createMenu();
+            final Order newOrder = new Order();
+            newOrder.setOrderLineItems(List.of(createOrderLineItem(newMenu.getId(), 1L)));
+            newOrder.setOrderTableId(savedOrderTable.getId());
+
+            //when
+            final Order savedOrder = orderService.create(newOrder);
+
+            //then
+            assertThat(savedOrder.getOrderLineItems())
+                .extracting(OrderLineItem::getMenuId)
+                .containsExactly(newMenu.getId());
+        }
+
         @Test
         @DisplayName("orderLineItem에 있는 menu가 존재하지 않는 경우 예외처리")
         void throwExceptionOrderLineItemsIsEmpty() {
             //given
-            final Menu menu = createMenu();
+            final Menu menu = orderFactory.createMenu();
             final OrderLineItem orderLineItem = createOrderLineItem(menu.getId() + 1, 1L);
-            final OrderTable savedOrderTable = createOrderTable();
+            final OrderTable savedOrderTable = orderFactory.createOrderTable();
 
             final Order order = new Order();
             order.setOrderLineItems(List.of(orderLineItem));
@@ -85,7 +165,7 @@ class OrderServiceTest extends ServiceIntegrationTest {
         @DisplayName("orderTable이 비어있는 경우 예외처리")
         void throwExceptionOrderTableIsEmpty() {
             //given
-            final Menu menu = createMenu();
+            final Menu menu = orderFactory.createMenu();
             final OrderLineItem orderLineItem = createOrderLineItem(menu.getId(), 1L);
             final OrderTable savedOrderTable = tableService.create(주문_테이블());
 
@@ -103,7 +183,7 @@ class OrderServiceTest extends ServiceIntegrationTest {
     @DisplayName("order를 list로 조회한다.")
     void list() {
         //given
-        final Order order = createOrderSuccessfully();
+        final Order order = orderFactory.createOrderSuccessfully();
 
         //when
         final List<Order> foundOrders = orderService.list();
@@ -114,6 +194,111 @@ class OrderServiceTest extends ServiceIntegrationTest {
             .containsExactly(order);
     }
 
+    @Test
+    @DisplayName("여러 order를 조회할 때 각 order의 orderLineItem을 함께 조회한다.")
+    void listWithOrderLineItemsOfEachOrder() {
+        //given
+        final Order order = orderFactory.createOrderSuccessfully();
+        final Order order2 = orderFactory.createOrderSuccessfully();
+
+        //when
+        final List<Order> foundOrders = orderService.list();
+
+        //then
+        assertThat(foundOrders)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields()
+            .containsExactly(order, order2);
+    }
+
+    @Nested
+    @DisplayName("order를 id 순서로 나누어 조회한다.")
+    class ListAfterId {
+
+        @Test
+        @DisplayName("afterId 이후의 order를 limit 개수만큼 조회한다.")
+        void success() {
+            //given
+            final Order order = orderFactory.createOrderSuccessfully();
+            final Order order2 = orderFactory.createOrderSuccessfully();
+            final Order order3 = orderFactory.createOrderSuccessfully();
+
+            //when
+            final List<Order> foundOrders = orderService.list(order.getId(), 1);
+
+            //then
+            assertThat(foundOrders)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields()
+                .containsExactly(order2);
+        }
+
+        @Test
+        @DisplayName("afterId가 없으면 처음부터 조회한다.")
+        void successWithoutAfterId() {
+            //given
+            final Order order = orderFactory.createOrderSuccessfully();
+            final Order order2 = orderFactory.createOrderSuccessfully();
+
+            //when
+            final List<Order> foundOrders = orderService.list(null, 10);
+
+            //then
+            assertThat(foundOrders)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields()
+                .containsExactly(order, order2);
+        }
+
+        @Test
+        @DisplayName("limit이 0 이하인 경우 예외처리")
+        void throwExceptionLimitIsNotPositive() {
+            assertThatThrownBy(() -> orderService.list(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 version 이후에 바뀐 order만 조회한다.")
+    void listChangedSince() {
+        //given
+        final Order order = orderFactory.createOrderSuccessfully();
+        final ChangeSet<Order> firstChangeSet = orderService.listChangedSince(0L);
+        final Order order2 = orderFactory.createOrderSuccessfully();
+        order.setOrderStatus(OrderStatus.MEAL.name());
+        orderService.changeOrderStatus(order.getId(), order);
+
+        //when
+        final ChangeSet<Order> changeSet = orderService.listChangedSince(firstChangeSet.getVersion());
+
+        //then
+        assertThat(firstChangeSet.getItems())
+            .extracting(Order::getId)
+            .containsExactly(order.getId());
+        assertThat(changeSet.getItems())
+            .extracting(Order::getId, Order::getOrderStatus)
+            .containsExactly(
+                tuple(order2.getId(), OrderStatus.COOKING.name()),
+                tuple(order.getId(), OrderStatus.MEAL.name())
+            );
+        assertThat(changeSet.getItems())
+            .allSatisfy(changedOrder -> assertThat(changedOrder.getOrderLineItems()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("order를 orderLineItem과 함께 하나씩 흘려보낸다.")
+    void streamAll() {
+        //given
+        final Order order = orderFactory.createOrderSuccessfully();
+        final Order order2 = orderFactory.createOrderSuccessfully();
+
+        //when
+        final List<Order> streamedOrders = new ArrayList<>();
+        orderService.streamAll(streamedOrders::add);
+
+        //then
+        assertThat(streamedOrders)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields()
+            .containsExactly(order, order2);
+    }
+
     @Nested
     @DisplayName("order의 상태를 바꾼다.")
     class ChangeOrderStatus {
@@ -122,7 +307,7 @@ class OrderServiceTest extends ServiceIntegrationTest {
         @DisplayName("정상적으로 바꾼다.")
         void success() {
             //given
-            final Order cookingOrder = createOrderSuccessfully();
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
             cookingOrder.setOrderStatus(OrderStatus.COMPLETION.name());
 
             //when
@@ -139,7 +324,7 @@ class OrderServiceTest extends ServiceIntegrationTest {
         @DisplayName("변경하려는 order의 상태가 completion인 경우 예외처리")
         void throwExceptionOrderStatusIsCompletion() {
             //given
-            final Order cookingOrder = createOrderSuccessfully();
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
             cookingOrder.setOrderStatus(OrderStatus.COMPLETION.name());
             orderService.changeOrderStatus(cookingOrder.getId(), cookingOrder);
 
@@ -149,31 +334,142 @@ class OrderServiceTest extends ServiceIntegrationTest {
                 () -> orderService.changeOrderStatus(cookingOrder.getId(), cookingOrder)
             ).isInstanceOf(IllegalArgumentException.class);
         }
-    }
 
-    private Order createOrderSuccessfully() {
-        final Menu menu = createMenu();
-        final OrderLineItem orderLineItem = createOrderLineItem(menu.getId(), 1L);
-        final OrderTable savedOrderTable = createOrderTable();
+        @Test
+        @DisplayName("동시에 바꾸어도 변경을 잃지 않는다.")
+        void successWithConcurrentChanges() throws Exception {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+            final Order mealOrder = new Order();
+            mealOrder.setOrderStatus(OrderStatus.MEAL.name());
+            final ExecutorService executorService = Executors.newFixedThreadPool(2);
 
-        final Order order = new Order();
-        order.setOrderLineItems(List.of(orderLineItem));
-        order.setOrderTableId(savedOrderTable.getId());
-        return orderService.create(order);
-    }
+            //when
+            try {
+                final List<Future<Order>> changedOrders = executorService.invokeAll(List.of(
+                    () -> orderService.changeOrderStatus(cookingOrder.getId(), mealOrder),
+                    () -> orderService.changeOrderStatus(cookingOrder.getId(), mealOrder)
+                ));
+                for (final Future<Order> changedOrder : changedOrders) {
+                    changedOrder.get();
+                }
+            } finally {
+                executorService.shutdown();
+            }
+
+            //then
+            final Order foundOrder = orderDao.findById(cookingOrder.getId())
+                .orElseThrow(RuntimeException::new);
+            assertThat(foundOrder.getVersion()).isEqualTo(cookingOrder.getVersion() + 2);
+        }
 
-    private Menu createMenu() {
-        final Product savedProduct = productService.create(후라이드());
-        final MenuProduct menuProduct = MenuFixture.createMenuProduct(savedProduct, 1L);
-        final MenuGroup savedMenuGroup = menuGroupService.create(MenuFixture.한마리메뉴());
-        final Menu menu = 후라이드치킨(savedMenuGroup, List.of(menuProduct));
+        @Test
+        @DisplayName("읽은 뒤 다른 곳에서 바뀐 order는 덮어쓰지 않는다.")
+        void notOverwriteStaleOrder() {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+            final Order mealOrder = new Order();
+            mealOrder.setOrderStatus(OrderStatus.MEAL.name());
+            orderService.changeOrderStatus(cookingOrder.getId(), mealOrder);
 
-        return menuService.create(menu);
+            //when
+            final boolean changed = orderDao.compareAndSetOrderStatus(
+                cookingOrder.getId(), cookingOrder.getVersion(), OrderStatus.COMPLETION.name());
+
+            //then
+            final Order foundOrder = orderDao.findById(cookingOrder.getId())
+                .orElseThrow(RuntimeException::new);
+            assertThat(changed).isFalse();
+            assertThat(foundOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        }
     }
 
-    private OrderTable createOrderTable() {
-        final OrderTable orderTable = 주문_테이블();
-        orderTable.setEmpty(false);
-        return tableService.create(orderTable);
+    @Nested
+    @DisplayName("order의 상태를 바꾸고 요약만 돌려준다.")
+    class ChangeOrderStatusSummary {
+
+        @Test
+        @DisplayName("정상적으로 바꾼다.")
+        void success() {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+            cookingOrder.setOrderStatus(OrderStatus.MEAL.name());
+
+            //when
+            final OrderStatusSummary summary = orderService.changeOrderStatusSummary(cookingOrder.getId(), cookingOrder);
+
+            //then
+            final Order foundOrder = orderDao.findById(cookingOrder.getId())
+                .orElseThrow(RuntimeException::new);
+            assertThat(summary.getId()).isEqualTo(cookingOrder.getId());
+            assertThat(summary.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+            assertThat(foundOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        }
+
+        @Test
+        @DisplayName("바뀐 order의 table id를 담아 이벤트를 발행한다.")
+        void publishEventWithOrderTableId() {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+            cookingOrder.setOrderStatus(OrderStatus.MEAL.name());
+
+            //when
+            orderService.changeOrderStatusSummary(cookingOrder.getId(), cookingOrder);
+
+            //then
+            assertThat(applicationEvents.stream(OrderChangedEvent.class)
+                .filter(event -> event.getType() == OrderChangedEvent.Type.STATUS_CHANGED))
+                .extracting(OrderChangedEvent::getOrderId, OrderChangedEvent::getOrderTableId)
+                .containsExactly(tuple(cookingOrder.getId(), cookingOrder.getOrderTableId()));
+        }
+
+        @Test
+        @DisplayName("상태 변경과 table id 조회를 SQL 한 번으로 한다.")
+        void changeOrderStatusWithSingleStatement() {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+
+            //when
+            SqlStatementCounter.start();
+            final Optional<Long> orderTableId;
+            final SqlStatementCounter.Statements statements;
+            try {
+                orderTableId = orderDao.updateOrderStatusIfNotCompleted(cookingOrder.getId(), OrderStatus.MEAL.name());
+            } finally {
+                statements = SqlStatementCounter.stop();
+            }
+
+            //then
+            assertThat(orderTableId).contains(cookingOrder.getOrderTableId());
+            assertThat(statements.getCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("변경하려는 order의 상태가 completion인 경우 예외처리")
+        void throwExceptionOrderStatusIsCompletion() {
+            //given
+            final Order cookingOrder = orderFactory.createOrderSuccessfully();
+            cookingOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+            orderService.changeOrderStatusSummary(cookingOrder.getId(), cookingOrder);
+
+            //when
+            cookingOrder.setOrderStatus(OrderStatus.MEAL.name());
+            assertThatThrownBy(
+                () -> orderService.changeOrderStatusSummary(cookingOrder.getId(), cookingOrder)
+            ).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("order가 존재하지 않는 경우 예외처리")
+        void throwExceptionOrderIsNotExist() {
+            //given
+            final Order order = new Order();
+            order.setOrderStatus(OrderStatus.MEAL.name());
+
+            //when
+            assertThatThrownBy(
+                () -> orderService.changeOrderStatusSummary(Long.MAX_VALUE, order)
+            ).isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
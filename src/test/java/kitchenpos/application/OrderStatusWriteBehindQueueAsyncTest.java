@@ -0,0 +1,226 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.application.OrderStatusWriteBehindQueue.Durability;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OrderStatusWriteBehindQueueAsyncTest extends ServiceIntegrationTest {
+
+    private static final int MAX_RETRIES = 2;
+
+    @Autowired
+    private OrderDao orderDao;
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OrderFactory orderFactory;
+
+    private final List<List<Order>> writes = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    @DisplayName("상태 변경은 바로 응답하고 flush 때 DB에 반영한다.")
+    void changeOrderStatusOnFlush() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(0);
+        final Order order = orderFactory.createOrderSuccessfully();
+
+        //when
+        final Order changedOrder = queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+        final String statusBeforeFlush = orderStatusOf(order);
+        queue.flush();
+
+        //then
+        assertThat(changedOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        assertThat(statusBeforeFlush).isEqualTo(OrderStatus.COOKING.name());
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.MEAL.name());
+    }
+
+    @Test
+    @DisplayName("같은 order의 여러 변경은 마지막 상태 하나로 반영한다.")
+    void coalesceChangesOfSameOrder() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(0);
+        final Order order = orderFactory.createOrderSuccessfully();
+        final Order otherOrder = orderFactory.createOrderSuccessfully();
+
+        //when
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+        queue.changeOrderStatus(otherOrder.getId(), statusOf(OrderStatus.MEAL));
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.COMPLETION));
+        queue.flush();
+
+        //then
+        assertThat(writes).hasSize(1);
+        assertThat(writes.get(0))
+            .extracting(Order::getId, Order::getOrderStatus)
+            .containsExactlyInAnyOrder(
+                tuple(order.getId(), OrderStatus.COMPLETION.name()),
+                tuple(otherOrder.getId(), OrderStatus.MEAL.name())
+            );
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.COMPLETION.name());
+        assertThat(orderStatusOf(otherOrder)).isEqualTo(OrderStatus.MEAL.name());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 변경은 다음 flush 때 다시 반영한다.")
+    void retryFailedChanges() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(1);
+        final Order order = orderFactory.createOrderSuccessfully();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+
+        //when
+        queue.flush();
+        final String statusAfterFailure = orderStatusOf(order);
+        queue.flush();
+
+        //then
+        assertThat(writes).hasSize(2);
+        assertThat(statusAfterFailure).isEqualTo(OrderStatus.COOKING.name());
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.MEAL.name());
+    }
+
+    @Test
+    @DisplayName("실패 중에 다시 바뀐 order는 마지막 상태로 다시 반영한다.")
+    void retryWithLatestChange() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(1);
+        final Order order = orderFactory.createOrderSuccessfully();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+
+        //when
+        queue.flush();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.COMPLETION));
+        queue.flush();
+
+        //then
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.COMPLETION.name());
+    }
+
+    @Test
+    @DisplayName("max-retries번 다시 시도해도 실패한 변경은 버리고 DB에서 다시 읽는다.")
+    void dropChangesFailedMoreThanMaxRetries() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(Integer.MAX_VALUE);
+        final Order order = orderFactory.createOrderSuccessfully();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.COMPLETION));
+
+        //when
+        for (int i = 0; i <= MAX_RETRIES + 1; i++) {
+            queue.flush();
+        }
+        final Order changedOrder = queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+
+        //then
+        assertThat(writes).hasSize(MAX_RETRIES + 1);
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.COOKING.name());
+        assertThat(changedOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트는 DB에 반영한 뒤에 발행한다.")
+    void publishEventAfterFlush() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(0);
+        final Order order = orderFactory.createOrderSuccessfully();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+
+        //when
+        final List<Object> eventsBeforeFlush = List.copyOf(events);
+        queue.flush();
+
+        //then
+        assertThat(eventsBeforeFlush).isEmpty();
+        assertThat(events)
+            .map(OrderChangedEvent.class::cast)
+            .extracting(OrderChangedEvent::getOrderId, OrderChangedEvent::getOrderTableId, OrderChangedEvent::getOrderStatus)
+            .containsExactly(tuple(order.getId(), order.getOrderTableId(), OrderStatus.MEAL.name()));
+    }
+
+    @Test
+    @DisplayName("바뀐 order는 DB에 반영될 version을 돌려준다.")
+    void returnVersionAfterFlush() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(0);
+        final Order order = orderFactory.createOrderSuccessfully();
+
+        //when
+        final Order mealOrder = queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+        final Order completedOrder = queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.COMPLETION));
+        queue.flush();
+
+        //then
+        final Order foundOrder = orderDao.findById(order.getId())
+            .orElseThrow(RuntimeException::new);
+        assertThat(mealOrder.getVersion()).isEqualTo(order.getVersion() + 1);
+        assertThat(completedOrder.getVersion()).isEqualTo(order.getVersion() + 1);
+        assertThat(foundOrder.getVersion()).isEqualTo(order.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("반영 전에 다른 곳에서 바뀐 order의 변경은 버리고 DB에서 다시 읽는다.")
+    void discardChangesConflictingWithConcurrentChange() {
+        //given
+        final OrderStatusWriteBehindQueue queue = asyncQueue(0);
+        final Order order = orderFactory.createOrderSuccessfully();
+        queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL));
+        orderDao.compareAndSetOrderStatus(order.getId(), order.getVersion(), OrderStatus.COMPLETION.name());
+
+        //when
+        queue.flush();
+
+        //then
+        assertThat(orderStatusOf(order)).isEqualTo(OrderStatus.COMPLETION.name());
+        assertThat(events).isEmpty();
+        assertThatThrownBy(
+            () -> queue.changeOrderStatus(order.getId(), statusOf(OrderStatus.MEAL))
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderStatusWriteBehindQueue asyncQueue(final int failures) {
+        return new OrderStatusWriteBehindQueue(
+            orderDao, orderLineItemDao, transactionManager, events::add,
+            Durability.ASYNC, Duration.ofSeconds(5), MAX_RETRIES
+        ) {
+            @Override
+            List<Long> write(final List<Order> changes) {
+                writes.add(List.copyOf(changes));
+                if (writes.size() <= failures) {
+                    throw new DataAccessResourceFailureException("flush failed");
+                }
+                return super.write(changes);
+            }
+        };
+    }
+
+    private Order statusOf(final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+
+    private String orderStatusOf(final Order order) {
+        return orderDao.findById(order.getId())
+            .map(Order::getOrderStatus)
+            .orElseThrow(RuntimeException::new);
+    }
+}
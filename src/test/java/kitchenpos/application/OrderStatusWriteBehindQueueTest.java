@@ -0,0 +1,81 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "kitchenpos.order.status-write-behind.enabled=true",
+    "kitchenpos.order.status-write-behind.durability=group-commit"
+})
+class OrderStatusWriteBehindQueueTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private OrderStatusWriteBehindQueue orderStatusWriteBehindQueue;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderDao orderDao;
+    @Autowired
+    private OrderFactory orderFactory;
+
+    @BeforeEach
+    void clearStatusView() {
+        orderStatusWriteBehindQueue.clear();
+    }
+
+    @Test
+    @DisplayName("order의 상태 변경을 모아서 반영한다.")
+    void changeOrderStatus() {
+        //given
+        final Order order = orderFactory.createOrderSuccessfully();
+        order.setOrderStatus(OrderStatus.MEAL.name());
+
+        //when
+        final Order changedOrder = orderService.changeOrderStatus(order.getId(), order);
+
+        //then
+        final Order foundOrder = orderDao.findById(order.getId())
+            .orElseThrow(RuntimeException::new);
+        assertThat(changedOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        assertThat(changedOrder.getOrderLineItems()).hasSize(1);
+        assertThat(foundOrder.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+    }
+
+    @Test
+    @DisplayName("completion이 된 order의 상태를 바꾸려는 경우 예외처리")
+    void throwExceptionOrderStatusIsCompletion() {
+        //given
+        final Order order = orderFactory.createOrderSuccessfully();
+        order.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderService.changeOrderStatus(order.getId(), order);
+
+        //when
+        order.setOrderStatus(OrderStatus.MEAL.name());
+        assertThatThrownBy(
+            () -> orderService.changeOrderStatus(order.getId(), order)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 order의 상태를 바꾸려는 경우 예외처리")
+    void throwExceptionOrderIsNotExist() {
+        //given
+        final Order order = new Order();
+        order.setOrderStatus(OrderStatus.MEAL.name());
+
+        //when
+        assertThatThrownBy(
+            () -> orderService.changeOrderStatus(Long.MAX_VALUE, order)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,10 +1,31 @@
 package kitchenpos.application;
 
+import kitchenpos.dao.ActiveOrderIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 
 @SpringBootTest
 @Sql("/test-data.sql")
 public abstract class ServiceIntegrationTest {
 
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MenuIdIndex menuIdIndex;
+    @Autowired
+    private ActiveOrderIndex activeOrderIndex;
+    @Autowired
+    private FloorStateView floorStateView;
+
+    @BeforeEach
+    void clearInMemoryState() {
+        cacheManager.getCacheNames()
+            .forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        menuIdIndex.invalidate();
+        activeOrderIndex.invalidate();
+        floorStateView.invalidate();
+    }
 }
@@ -9,7 +9,13 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import kitchenpos.config.SqlStatementCounter;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.domain.Order;
@@ -87,6 +93,69 @@ class TableGroupServiceTest extends ServiceIntegrationTest {
             assertThatThrownBy(() -> tableGroupService.create(tableGroup))
                 .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        @DisplayName("묶는 orderTable 전부를 UPDATE 한 번으로 바꾼다.")
+        void updateOrderTablesWithSingleStatement() {
+            //given
+            final List<OrderTable> savedOrderTables = 전체_주문_테이블().stream()
+                .map(tableService::create)
+                .collect(Collectors.toList());
+            final TableGroup tableGroup = new TableGroup();
+            tableGroup.setOrderTables(savedOrderTables);
+
+            //when
+            SqlStatementCounter.start();
+            final TableGroup savedTableGroup;
+            final SqlStatementCounter.Statements statements;
+            try {
+                savedTableGroup = tableGroupService.create(tableGroup);
+            } finally {
+                statements = SqlStatementCounter.stop();
+            }
+
+            //then
+            assertThat(orderTableUpdatesOf(statements)).isEqualTo(1);
+            assertThat(orderTableDao.findAllByIdIn(idsOf(savedOrderTables)))
+                .hasSize(savedOrderTables.size())
+                .extracting(OrderTable::getTableGroupId, OrderTable::isEmpty)
+                .containsOnly(tuple(savedTableGroup.getId(), false));
+        }
+
+        @Test
+        @DisplayName("같은 orderTable을 동시에 묶으면 하나만 성공한다.")
+        void successOnlyOneWithSameOrderTable() throws Exception {
+            //given
+            final OrderTable sharedOrderTable = tableService.create(주문_테이블());
+            final TableGroup tableGroup = new TableGroup();
+            tableGroup.setOrderTables(List.of(sharedOrderTable, tableService.create(주문_테이블())));
+            final TableGroup tableGroup2 = new TableGroup();
+            tableGroup2.setOrderTables(List.of(tableService.create(주문_테이블()), sharedOrderTable));
+            final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+            //when
+            final List<Future<TableGroup>> results;
+            try {
+                results = executorService.invokeAll(List.of(
+                    () -> tableGroupService.create(tableGroup),
+                    () -> tableGroupService.create(tableGroup2)
+                ));
+            } finally {
+                executorService.shutdown();
+            }
+
+            //then
+            int successCount = 0;
+            for (final Future<TableGroup> result : results) {
+                try {
+                    result.get();
+                    successCount++;
+                } catch (final ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class);
+                }
+            }
+            assertThat(successCount).isOne();
+        }
     }
 
     @Nested
@@ -118,6 +187,29 @@ class TableGroupServiceTest extends ServiceIntegrationTest {
                 );
         }
 
+        @Test
+        @DisplayName("해제하는 orderTable 전부를 UPDATE 한 번으로 바꾼다.")
+        void updateOrderTablesWithSingleStatement() {
+            //given
+            final TableGroup savedTableGroup = saveTableGroupSuccessfully(new TableGroup(), 전체_주문_테이블());
+
+            //when
+            SqlStatementCounter.start();
+            final SqlStatementCounter.Statements statements;
+            try {
+                tableGroupService.ungroup(savedTableGroup.getId());
+            } finally {
+                statements = SqlStatementCounter.stop();
+            }
+
+            //then
+            assertThat(orderTableUpdatesOf(statements)).isEqualTo(1);
+            assertThat(orderTableDao.findAllByIdIn(idsOf(savedTableGroup.getOrderTables())))
+                .hasSize(savedTableGroup.getOrderTables().size())
+                .extracting(OrderTable::getTableGroupId, OrderTable::isEmpty)
+                .containsOnly(tuple(null, false));
+        }
+
         @Test
         @DisplayName("해제하려는 TableGroup에 속한 Table의 주문 상태가 완료상태가 아닌경우 예외처리")
         void throwExceptionIfOrderIsNotCompletion() {
@@ -154,4 +246,17 @@ class TableGroupServiceTest extends ServiceIntegrationTest {
         final TableGroup savedTableGroup = tableGroupService.create(tableGroup);
         return savedTableGroup;
     }
+
+    private List<Long> idsOf(final List<OrderTable> orderTables) {
+        return orderTables.stream()
+            .map(OrderTable::getId)
+            .collect(Collectors.toList());
+    }
+
+    private int orderTableUpdatesOf(final SqlStatementCounter.Statements statements) {
+        return statements.getCountsByShape().entrySet().stream()
+            .filter(entry -> entry.getKey().startsWith("UPDATE order_table"))
+            .mapToInt(Map.Entry::getValue)
+            .sum();
+    }
 }
@@ -1,18 +1,36 @@
 package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.application.dto.ChangeSet;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.fixture.TableFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 class TableServiceTest extends ServiceIntegrationTest {
 
     @Autowired
     private TableService tableService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderDao orderDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @Test
     @DisplayName("table을 생성한다.")
@@ -39,4 +57,99 @@ class TableServiceTest extends ServiceIntegrationTest {
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id", "tableGroupId")
             .isEqualTo(orderTables);
     }
+
+    @Test
+    @DisplayName("table의 order가 cooking이거나 meal이면 비울 수 없다.")
+    void throwExceptionChangeEmptyWithActiveOrder() {
+        final OrderTable orderTable = TableFixture.주문_테이블();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = tableService.create(orderTable);
+        saveOrder(savedOrderTable, OrderStatus.MEAL);
+
+        savedOrderTable.setEmpty(true);
+
+        assertThatThrownBy(() -> tableService.changeEmpty(savedOrderTable.getId(), savedOrderTable))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("table의 order가 모두 completion이 되면 비울 수 있다.")
+    void changeEmptyAfterOrderCompleted() {
+        final OrderTable orderTable = TableFixture.주문_테이블();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = tableService.create(orderTable);
+        final Order order = saveOrder(savedOrderTable, OrderStatus.COOKING);
+        order.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderService.changeOrderStatus(order.getId(), order);
+
+        savedOrderTable.setEmpty(true);
+        final OrderTable changedOrderTable = tableService.changeEmpty(savedOrderTable.getId(), savedOrderTable);
+
+        assertThat(changedOrderTable.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 version 이후에 바뀐 table만 조회한다.")
+    void listChangedSince() {
+        final OrderTable orderTable = tableService.create(TableFixture.주문_테이블());
+        final OrderTable orderTable2 = tableService.create(TableFixture.주문_테이블());
+        final ChangeSet<OrderTable> firstChangeSet = tableService.listChangedSince(0L);
+
+        final OrderTable orderTable3 = tableService.create(TableFixture.주문_테이블());
+        orderTable.setEmpty(false);
+        tableService.changeEmpty(orderTable.getId(), orderTable);
+
+        final ChangeSet<OrderTable> changeSet = tableService.listChangedSince(firstChangeSet.getVersion());
+
+        assertThat(firstChangeSet.getItems())
+            .extracting(OrderTable::getId)
+            .containsExactly(orderTable.getId(), orderTable2.getId());
+        assertThat(changeSet.getItems())
+            .extracting(OrderTable::getId, OrderTable::isEmpty)
+            .containsExactly(tuple(orderTable3.getId(), orderTable3.isEmpty()), tuple(orderTable.getId(), false));
+        assertThat(changeSet.getVersion()).isGreaterThan(firstChangeSet.getVersion());
+    }
+
+    @Test
+    @DisplayName("커밋되지 않은 변경이 있으면 그 버전 앞까지만 조회한다.")
+    void listChangedSinceWithUncommittedChange() throws Exception {
+        final CountDownLatch saved = new CountDownLatch(1);
+        final CountDownLatch commit = new CountDownLatch(1);
+        final OrderTable[] uncommitted = new OrderTable[1];
+        final CompletableFuture<Void> transaction = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                uncommitted[0] = tableService.create(TableFixture.주문_테이블());
+                saved.countDown();
+                await(commit);
+            }));
+        await(saved);
+        final OrderTable committed = tableService.create(TableFixture.주문_테이블());
+
+        final ChangeSet<OrderTable> firstChangeSet = tableService.listChangedSince(0L);
+        commit.countDown();
+        transaction.get(5, TimeUnit.SECONDS);
+        final ChangeSet<OrderTable> changeSet = tableService.listChangedSince(firstChangeSet.getVersion());
+
+        assertThat(firstChangeSet.getItems()).isEmpty();
+        assertThat(changeSet.getItems())
+            .extracting(OrderTable::getId)
+            .containsExactly(uncommitted[0].getId(), committed.getId());
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Order saveOrder(final OrderTable orderTable, final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderStatus(orderStatus.name());
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderedTime(LocalDateTime.now());
+        return orderDao.save(order);
+    }
 }
@@ -0,0 +1,57 @@
+package kitchenpos.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import kitchenpos.application.ServiceIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class SqlStatementCountingFilterTest extends ServiceIntegrationTest {
+
+    private static final String HEADER_NAME = "X-SQL-Statement-Count";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("body가 있는 응답에 실행한 SQL 수를 내려준다.")
+    void countWithBody() throws Exception {
+        mockMvc.perform(get("/api/tables"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HEADER_NAME, "1"));
+    }
+
+    @Test
+    @DisplayName("body가 없는 응답에도 실행한 SQL 수를 내려준다.")
+    void countWithoutBody() throws Exception {
+        mockMvc.perform(delete("/api/table-groups/{tableGroupId}", Long.MAX_VALUE))
+            .andExpect(status().isNoContent())
+            .andExpect(content().string(""))
+            .andExpect(header().exists(HEADER_NAME));
+    }
+
+    @Test
+    @DisplayName("비동기 응답에는 요청 스레드에서 실행한 SQL 수를 내려준다.")
+    void countWithAsyncResponse() throws Exception {
+        mockMvc.perform(get("/api/orders/stream"))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string(HEADER_NAME, "0"));
+    }
+
+    @Test
+    @DisplayName("에러 응답에도 실행한 SQL 수를 내려준다.")
+    void countWithErrorResponse() throws Exception {
+        mockMvc.perform(get("/api/unknown"))
+            .andExpect(status().isNotFound())
+            .andExpect(header().string(HEADER_NAME, "0"));
+    }
+}
@@ -0,0 +1,132 @@
+package kitchenpos.dao;
+
+import static kitchenpos.fixture.TableFixture.주문_테이블;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import kitchenpos.application.ServiceIntegrationTest;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ActiveOrderIndexTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private OrderDao orderDao;
+
+    @Test
+    @DisplayName("rebuild가 조회하는 동안 커밋된 order도 index에 남는다.")
+    void keepOrderCommittedDuringRebuild() throws Exception {
+        //given
+        final OrderTable orderTable = 주문_테이블();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = tableService.create(orderTable);
+
+        final CountDownLatch saved = new CountDownLatch(1);
+        final CountDownLatch loaded = new CountDownLatch(1);
+        final CountDownLatch committed = new CountDownLatch(1);
+        final ActiveOrderIndex activeOrderIndex = new ActiveOrderIndex(dataSource) {
+            @Override
+            LongLongHashMap findActiveOrderTables() {
+                final LongLongHashMap activeOrderTables = super.findActiveOrderTables();
+                loaded.countDown();
+                await(committed);
+                return activeOrderTables;
+            }
+        };
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        //when
+        final Future<?> insert = executorService.submit(() -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                final Order savedOrder = orderDao.save(order(savedOrderTable));
+                activeOrderIndex.ordersSaved(List.of(savedOrder));
+                saved.countDown();
+                await(loaded);
+            });
+            committed.countDown();
+        });
+        await(saved);
+        activeOrderIndex.rebuild();
+        insert.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(activeOrderIndex.hasActiveOrder(savedOrderTable.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("table의 마지막 진행 중 order가 끝나야 진행 중 order가 없다.")
+    void countActiveOrdersByOrderTable() {
+        //given
+        final ActiveOrderIndex activeOrderIndex = new ActiveOrderIndex(dataSource);
+        activeOrderIndex.rebuild();
+        final Order order = order(1L, 1L);
+        final Order order2 = order(2L, 1L);
+        activeOrderIndex.ordersSaved(List.of(order, order2, order(3L, 2L)));
+
+        //when
+        activeOrderIndex.orderStatusesChanged(List.of(completed(order)));
+        final boolean activeAfterFirstCompletion = activeOrderIndex.hasActiveOrder(1L);
+        activeOrderIndex.orderStatusesChanged(List.of(completed(order2)));
+
+        //then
+        assertThat(activeAfterFirstCompletion).isTrue();
+        assertThat(activeOrderIndex.hasActiveOrder(1L)).isFalse();
+        assertThat(activeOrderIndex.hasActiveOrderIn(List.of(1L, 2L))).isTrue();
+        assertThat(activeOrderIndex.activeOrderTables().contains(1L)).isFalse();
+        assertThat(activeOrderIndex.activeOrderTables().contains(2L)).isTrue();
+    }
+
+    private Order order(final Long orderId, final Long orderTableId) {
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setOrderTableId(orderTableId);
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        return order;
+    }
+
+    private Order completed(final Order order) {
+        final Order completed = new Order();
+        completed.setId(order.getId());
+        completed.setOrderStatus(OrderStatus.COMPLETION.name());
+        return completed;
+    }
+
+    private Order order(final OrderTable orderTable) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(LocalDateTime.now());
+        return order;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
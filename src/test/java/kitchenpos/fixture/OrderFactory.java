@@ -0,0 +1,70 @@
+package kitchenpos.fixture;
+
+import static kitchenpos.fixture.MenuFixture.후라이드치킨;
+import static kitchenpos.fixture.OrderFixture.createOrderLineItem;
+import static kitchenpos.fixture.ProductFixture.후라이드;
+import static kitchenpos.fixture.TableFixture.주문_테이블;
+
+import java.util.List;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.ProductService;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderFactory {
+
+    private final OrderService orderService;
+    private final MenuService menuService;
+    private final TableService tableService;
+    private final ProductService productService;
+    private final MenuGroupService menuGroupService;
+
+    public OrderFactory(
+        final OrderService orderService,
+        final MenuService menuService,
+        final TableService tableService,
+        final ProductService productService,
+        final MenuGroupService menuGroupService
+    ) {
+        this.orderService = orderService;
+        this.menuService = menuService;
+        this.tableService = tableService;
+        this.productService = productService;
+        this.menuGroupService = menuGroupService;
+    }
+
+    public Order createOrderSuccessfully() {
+        return createOrder(createOrderTable());
+    }
+
+    public Order createOrder(final OrderTable orderTable) {
+        final Menu menu = createMenu();
+
+        final Order order = new Order();
+        order.setOrderLineItems(List.of(createOrderLineItem(menu.getId(), 1L)));
+        order.setOrderTableId(orderTable.getId());
+        return orderService.create(order);
+    }
+
+    public Menu createMenu() {
+        final Product savedProduct = productService.create(후라이드());
+        final MenuProduct menuProduct = MenuFixture.createMenuProduct(savedProduct, 1L);
+        final MenuGroup savedMenuGroup = menuGroupService.create(MenuFixture.한마리메뉴());
+        return menuService.create(후라이드치킨(savedMenuGroup, List.of(menuProduct)));
+    }
+
+    public OrderTable createOrderTable() {
+        final OrderTable orderTable = 주문_테이블();
+        orderTable.setEmpty(false);
+        return tableService.create(orderTable);
+    }
+}
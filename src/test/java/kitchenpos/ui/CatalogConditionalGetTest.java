@@ -0,0 +1,120 @@
+package kitchenpos.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.ServiceIntegrationTest;
+import kitchenpos.domain.MenuGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class CatalogConditionalGetTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @BeforeEach
+    void evictCachedBodies() {
+        catalogResponseCache.evict();
+    }
+
+    @Test
+    @DisplayName("목록을 ETag와 함께 내려준다.")
+    void listWithETag() throws Exception {
+        //given
+        menuGroupService.create(menuGroup("single"));
+
+        //when, then
+        mockMvc.perform(get("/api/menu-groups"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, containsString("menu-groups-")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(content().string(containsString("single")));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 304를 돌려준다.")
+    void notModifiedWithMatchingETag() throws Exception {
+        //given
+        final String eTag = currentETag();
+
+        //when, then
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("catalog가 바뀌면 새 ETag로 200을 돌려준다.")
+    void okWithNewETagAfterCreate() throws Exception {
+        //given
+        final String eTag = currentETag();
+        menuGroupService.create(menuGroup("double"));
+
+        //when
+        final String newETag = mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("double")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        //then
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 *이면 304를 돌려준다.")
+    void notModifiedWithWildcard() throws Exception {
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("If-None-Match의 약한 ETag도 같은 것으로 본다.")
+    void notModifiedWithWeakETag() throws Exception {
+        //given
+        final String eTag = currentETag();
+
+        //when, then
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 다른 ETag이면 200을 돌려준다.")
+    void okWithOtherETag() throws Exception {
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, "\"menu-groups-0\""))
+            .andExpect(status().isOk());
+    }
+
+    private MenuGroup menuGroup(final String name) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName(name);
+        return menuGroup;
+    }
+
+    private String currentETag() throws Exception {
+        return mockMvc.perform(get("/api/menu-groups"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
+}
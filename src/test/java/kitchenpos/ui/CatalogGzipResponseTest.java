@@ -0,0 +1,144 @@
+package kitchenpos.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import kitchenpos.application.CatalogVersion;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.ServiceIntegrationTest;
+import kitchenpos.domain.MenuGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class CatalogGzipResponseTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+    @Autowired
+    private MenuGroupService menuGroupService;
+    @Autowired
+    private CatalogVersion catalogVersion;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        catalogResponseCache.evict();
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("single");
+        menuGroupService.create(menuGroup);
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 요청에는 압축한 본문을 내려준다.")
+    void gzipBody() throws Exception {
+        //given
+        final byte[] plainBody = mockMvc.perform(get("/api/menu-groups"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        //when
+        final MockHttpServletResponse response = mockMvc.perform(get("/api/menu-groups")
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, containsString("-gzip")))
+            .andReturn()
+            .getResponse();
+
+        //then
+        assertThat(decompress(response.getContentAsByteArray())).isEqualTo(plainBody);
+        assertThat(new String(plainBody, StandardCharsets.UTF_8)).contains("single");
+    }
+
+    @Test
+    @DisplayName("gzip이 q=0이면 압축하지 않는다.")
+    void plainBodyWhenGzipRejected() throws Exception {
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().string(containsString("single")));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding이 없으면 압축하지 않는다.")
+    void plainBodyWithoutAcceptEncoding() throws Exception {
+        mockMvc.perform(get("/api/menu-groups"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.ETAG, not(containsString("-gzip"))));
+    }
+
+    @Test
+    @DisplayName("gzip ETag로 조건부 조회하면 304를 돌려준다.")
+    void notModifiedWithGzipETag() throws Exception {
+        //given
+        final String eTag = mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        //when, then
+        mockMvc.perform(get("/api/menu-groups")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("모든 응답에 Vary: Accept-Encoding을 붙인다.")
+    void varyOnEveryResponse() throws Exception {
+        mockMvc.perform(get("/api/menu-groups"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("gzip을 끄면 gzip을 받는 요청에도 압축하지 않는다.")
+    void plainBodyWhenGzipDisabled() {
+        //given
+        final CatalogResponseCache gzipDisabledCache = new CatalogResponseCache(catalogVersion, objectMapper, false);
+
+        //when
+        final ResponseEntity<byte[]> response = gzipDisabledCache.get("menu-groups", null, "gzip", menuGroupService::list);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getHeaders().getETag()).doesNotContain("-gzip");
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("single");
+    }
+
+    private byte[] decompress(final byte[] body) throws IOException {
+        try (final GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
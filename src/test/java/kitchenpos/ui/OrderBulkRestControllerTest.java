@@ -0,0 +1,128 @@
+package kitchenpos.ui;
+
+import static kitchenpos.fixture.OrderFixture.createOrderLineItem;
+import static kitchenpos.fixture.TableFixture.주문_테이블;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.application.ServiceIntegrationTest;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.fixture.OrderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@AutoConfigureMockMvc
+class OrderBulkRestControllerTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private OrderFactory orderFactory;
+
+    @Test
+    @DisplayName("JSON 배열로 받은 order를 생성하고 결과를 한 줄씩 내려준다.")
+    void createInBulk() throws Exception {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final OrderTable emptyOrderTable = tableService.create(주문_테이블());
+        final String body = objectMapper.writeValueAsString(List.of(
+            createOrder(orderTable.getId(), menu.getId()),
+            createOrder(emptyOrderTable.getId(), menu.getId())
+        ));
+
+        //when
+        final List<JsonNode> results = createInBulk(post("/api/orders/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+
+        //then
+        assertThat(results)
+            .extracting(
+                result -> result.get("index").asInt(),
+                result -> result.get("created").asBoolean(),
+                result -> result.get("rejectReason").textValue()
+            )
+            .containsExactly(
+                tuple(0, true, null),
+                tuple(1, false, "EMPTY_ORDER_TABLE")
+            );
+        assertThat(results.get(0).get("orderId").isNumber()).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON으로 받은 order를 생성하고 결과를 한 줄씩 내려준다.")
+    void createInBulkFromNdjson() throws Exception {
+        //given
+        final Menu menu = orderFactory.createMenu();
+        final OrderTable orderTable = orderFactory.createOrderTable();
+        final String body = objectMapper.writeValueAsString(createOrder(orderTable.getId(), menu.getId()))
+            + "\n" + objectMapper.writeValueAsString(createOrder(orderTable.getId(), menu.getId() + 1))
+            + "\n" + objectMapper.writeValueAsString(createOrder(Long.MAX_VALUE, menu.getId()));
+
+        //when
+        final List<JsonNode> results = createInBulk(post("/api/orders/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(body));
+
+        //then
+        assertThat(results)
+            .extracting(
+                result -> result.get("index").asInt(),
+                result -> result.get("created").asBoolean(),
+                result -> result.get("rejectReason").textValue()
+            )
+            .containsExactly(
+                tuple(0, true, null),
+                tuple(1, false, "UNKNOWN_MENU"),
+                tuple(2, false, "UNKNOWN_ORDER_TABLE")
+            );
+    }
+
+    private List<JsonNode> createInBulk(final MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        final MvcResult mvcResult = mockMvc.perform(requestBuilder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        final String content = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        final List<JsonNode> results = new ArrayList<>();
+        for (final String line : content.split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private Order createOrder(final Long orderTableId, final Long menuId) {
+        final Order order = new Order();
+        order.setOrderLineItems(List.of(createOrderLineItem(menuId, 1L)));
+        order.setOrderTableId(orderTableId);
+        return order;
+    }
+}
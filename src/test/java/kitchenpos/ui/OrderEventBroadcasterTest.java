@@ -0,0 +1,184 @@
+package kitchenpos.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.application.OrderChangedEvent;
+import kitchenpos.domain.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderEventBroadcasterTest {
+
+    private static final String RESET = "RESET";
+    private static final String STATUS_CHANGED = OrderChangedEvent.Type.STATUS_CHANGED.name();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트부터 이어 받는다.")
+    void resumeAfterLastEventId() {
+        //given
+        final OrderEventBroadcaster broadcaster = broadcaster(10, 10);
+        final RecordingEmitter first = subscribe(broadcaster, null);
+        publish(broadcaster, 3);
+        final String lastEventId = first.ids.get(1);
+
+        //when
+        final RecordingEmitter resumed = subscribe(broadcaster, lastEventId);
+
+        //then
+        assertThat(first.names).containsExactly(RESET, STATUS_CHANGED, STATUS_CHANGED, STATUS_CHANGED);
+        assertThat(resumed.names).containsExactly(STATUS_CHANGED, STATUS_CHANGED);
+        assertThat(resumed.ids).containsExactlyElementsOf(first.ids.subList(2, 4));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 Last-Event-ID로 연결하면 RESET을 받는다.")
+    void resetOnUnknownEventId() {
+        //given
+        final OrderEventBroadcaster broadcaster = broadcaster(10, 10);
+        publish(broadcaster, 1);
+
+        //when
+        final RecordingEmitter unknown = subscribe(broadcaster, "unknown");
+        final RecordingEmitter ahead = subscribe(broadcaster, epochOf(broadcaster) + "-100");
+
+        //then
+        assertThat(unknown.names).containsExactly(RESET);
+        assertThat(ahead.names).containsExactly(RESET);
+    }
+
+    @Test
+    @DisplayName("보관된 이벤트보다 오래된 Last-Event-ID로 연결하면 RESET을 받는다.")
+    void resetOnTooOldEventId() {
+        //given
+        final OrderEventBroadcaster broadcaster = broadcaster(2, 10);
+        final RecordingEmitter first = subscribe(broadcaster, null);
+        publish(broadcaster, 3);
+
+        //when
+        final RecordingEmitter resumed = subscribe(broadcaster, first.ids.get(0));
+
+        //then
+        assertThat(resumed.names).containsExactly(RESET);
+        assertThat(resumed.ids).containsExactly(first.ids.get(3));
+    }
+
+    @Test
+    @DisplayName("서버가 다시 시작되기 전의 Last-Event-ID로 연결하면 RESET을 받는다.")
+    void resetOnPreviousEpochEventId() {
+        //given
+        final OrderEventBroadcaster broadcaster = broadcaster(10, 10);
+        publish(broadcaster, 1);
+
+        //when
+        final RecordingEmitter resumed = subscribe(broadcaster, (epochOf(broadcaster) - 1) + "-1");
+
+        //then
+        assertThat(resumed.names).containsExactly(RESET);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘친 구독자는 연결을 끊고 더 이상 이벤트를 보내지 않는다.")
+    void disconnectOverflowedSubscriber() {
+        //given
+        final OrderEventBroadcaster broadcaster = broadcaster(10, 2);
+        final RecordingEmitter subscriber = subscribe(broadcaster, null);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            broadcaster.publish(statusChanged());
+        }
+        runTasks();
+        publish(broadcaster, 1);
+
+        //then
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.names).containsExactly(RESET);
+    }
+
+    private OrderEventBroadcaster broadcaster(final int historySize, final int subscriberBufferSize) {
+        return new OrderEventBroadcaster(historySize, subscriberBufferSize, Duration.ofMinutes(1), 1, 10) {
+            @Override
+            SseEmitter createEmitter(final long timeoutMillis) {
+                return new RecordingEmitter();
+            }
+
+            @Override
+            void execute(final Runnable task) {
+                tasks.add(task);
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(final OrderEventBroadcaster broadcaster, final String lastEventId) {
+        final RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(lastEventId);
+        runTasks();
+        return emitter;
+    }
+
+    private void publish(final OrderEventBroadcaster broadcaster, final int count) {
+        for (int i = 0; i < count; i++) {
+            broadcaster.publish(statusChanged());
+            runTasks();
+        }
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private long epochOf(final OrderEventBroadcaster broadcaster) {
+        final String resetEventId = subscribe(broadcaster, null).ids.get(0);
+        return Long.parseLong(resetEventId.substring(0, resetEventId.indexOf('-')));
+    }
+
+    private OrderChangedEvent statusChanged() {
+        return OrderChangedEvent.statusChanged(1L, 1L, OrderStatus.MEAL.name(), LocalDateTime.now());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            final StringBuilder text = new StringBuilder();
+            for (final ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String) {
+                    text.append(data.getData());
+                }
+            }
+            for (final String line : text.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    ids.add(line.substring("id:".length()));
+                }
+                if (line.startsWith("event:")) {
+                    names.add(line.substring("event:".length()));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        @Override
+        public void completeWithError(final Throwable ex) {
+            completed = true;
+            super.completeWithError(ex);
+        }
+    }
+}
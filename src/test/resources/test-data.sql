@@ -1,5 +1,7 @@
 SET FOREIGN_KEY_CHECKS = 0;
 
+truncate table archived_order_line_item;
+truncate table archived_orders;
 truncate table menu;
 truncate table menu_group;
 truncate table menu_product;